@@ -0,0 +1,59 @@
+package com.example.marker.cache;
+
+import com.example.marker.constants.CacheConstants;
+import com.example.marker.service.BookmarkService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+
+/**
+ * 북마크 캐시 키("#userId + ':' + #bookmarkId")를 만드는 비용을 측정합니다.
+ * - spelInterpreted: @Cacheable/@CachePut이 호출마다 하는 것처럼, 파싱해 둔 식을 메서드 인자로 만든 평가 컨텍스트에서 평가
+ * - spelCompiled: 같은 식을 SpEL 컴파일러로 바이트코드로 컴파일한 뒤 평가
+ * - direct: 코드에서 직접 키를 만드는 {@link CacheConstants#bookmarkKey(Long, Long)}
+ */
+@State(Scope.Benchmark)
+public class CacheKeyBenchmark {
+
+    private static final String KEY_EXPRESSION = "#userId + ':' + #bookmarkId";
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private Method method;
+    private Object[] arguments;
+    private Expression interpreted;
+    private Expression compiled;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = BookmarkService.class.getMethod("findAndCacheBookmarkById", Long.class, Long.class);
+        arguments = new Object[] {42L, 1_000L};
+        interpreted = new SpelExpressionParser().parseExpression(KEY_EXPRESSION);
+        compiled = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, getClass().getClassLoader()))
+                .parseExpression(KEY_EXPRESSION);
+    }
+
+    @Benchmark
+    public Object spelInterpreted() {
+        return interpreted.getValue(new MethodBasedEvaluationContext(null, method, arguments, parameterNameDiscoverer));
+    }
+
+    @Benchmark
+    public Object spelCompiled() {
+        return compiled.getValue(new MethodBasedEvaluationContext(null, method, arguments, parameterNameDiscoverer));
+    }
+
+    @Benchmark
+    public String direct() {
+        return CacheConstants.bookmarkKey((Long) arguments[0], (Long) arguments[1]);
+    }
+}
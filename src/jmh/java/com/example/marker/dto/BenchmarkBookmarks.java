@@ -0,0 +1,58 @@
+package com.example.marker.dto;
+
+import com.example.marker.domain.Bookmark;
+import com.example.marker.domain.BookmarkTag;
+import com.example.marker.domain.Tag;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크에서 사용할 북마크 엔티티를 만듭니다. (DB 없이 메모리에서만 생성)
+ */
+final class BenchmarkBookmarks {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+
+    private BenchmarkBookmarks() {
+    }
+
+    /**
+     * 태그가 tagCount개 연결된 북마크를 만듭니다.
+     */
+    static Bookmark bookmark(long id, int tagCount) {
+        Bookmark bookmark = Bookmark.builder()
+                .id(id)
+                .title("Spring Boot Reference Documentation - Part " + id)
+                .url("https://docs.spring.io/spring-boot/reference/features/" + id + ".html")
+                .memo(id % 3 == 0 ? null : "나중에 다시 읽어볼 문서 " + id)
+                .build();
+        setField(bookmark, "createdAt", NOW.minusDays(id % 365));
+        setField(bookmark, "updatedAt", NOW.minusHours(id % 24));
+        for (int t = 0; t < tagCount; t++) {
+            Tag tag = Tag.builder().name("태그-" + t).build();
+            bookmark.addBookmarkTag(BookmarkTag.builder().bookmark(bookmark).tag(tag).build());
+        }
+        return bookmark;
+    }
+
+    /**
+     * 태그가 2~3개씩 연결된 북마크 size개를 만듭니다.
+     */
+    static List<Bookmark> bookmarks(int size) {
+        List<Bookmark> bookmarks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            bookmarks.add(bookmark(10_000L + i, 2 + i % 2));
+        }
+        return bookmarks;
+    }
+
+    private static void setField(Bookmark bookmark, String name, Object value) {
+        Field field = ReflectionUtils.findField(Bookmark.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, bookmark, value);
+    }
+}
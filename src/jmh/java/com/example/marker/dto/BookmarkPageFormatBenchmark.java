@@ -0,0 +1,53 @@
+package com.example.marker.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+
+/**
+ * 북마크 목록 응답(100개짜리 페이지)을 JSON, CBOR, Smile로 인코딩/디코딩하는 비용을 비교합니다.
+ * 인코딩은 실제 응답과 같은 {@link BookmarkPageSerializer}를, 디코딩은 클라이언트처럼 트리(JsonNode)로 읽는 방식을 사용합니다.
+ */
+@State(Scope.Benchmark)
+public class BookmarkPageFormatBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private BookmarkPage page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        objectMapper = builder.serializerByType(BookmarkPage.class, new BookmarkPageSerializer(false)).build();
+        page = BookmarkPage.from(new PageImpl<>(BenchmarkBookmarks.bookmarks(PAGE_SIZE), PageRequest.of(0, PAGE_SIZE), 1_234));
+        encoded = objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public JsonNode decode() throws IOException {
+        return objectMapper.readTree(encoded);
+    }
+}
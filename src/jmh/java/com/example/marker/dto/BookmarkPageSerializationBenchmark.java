@@ -0,0 +1,42 @@
+package com.example.marker.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 북마크 목록 응답({@link BookmarkPage})을 JSON으로 직렬화하는 비용을 측정합니다.
+ * ObjectMapper는 애플리케이션(JacksonConfig)과 같이 Jackson2ObjectMapperBuilder에 {@link BookmarkPageSerializer}를 등록해 만듭니다.
+ */
+@State(Scope.Benchmark)
+public class BookmarkPageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"false", "true"})
+    private boolean compactDates;
+
+    private ObjectMapper objectMapper;
+    private BookmarkPage page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializerByType(BookmarkPage.class, new BookmarkPageSerializer(compactDates))
+                .build();
+        page = BookmarkPage.from(new PageImpl<>(BenchmarkBookmarks.bookmarks(pageSize), PageRequest.of(0, pageSize), 1_234));
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.marker.dto;
+
+import com.example.marker.domain.Bookmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 북마크 상세 조회, 생성, 수정 응답에 사용하는 {@link BookmarkResponse#from(Bookmark)}의 비용을 태그 수별로 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class BookmarkResponseBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int tagCount;
+
+    private Bookmark bookmark;
+
+    @Setup
+    public void setUp() {
+        bookmark = BenchmarkBookmarks.bookmark(1L, tagCount);
+    }
+
+    @Benchmark
+    public BookmarkResponse from() {
+        return BookmarkResponse.from(bookmark);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.marker.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * 북마크 조회 실패(404) 경로의 비용을 측정합니다.
+ * 실제 요청처럼 깊은 호출 스택(필터, 프록시, 컨트롤러, 서비스)에서 예외를 던지고 잡은 뒤 {@link GlobalExceptionHandler}로 오류 응답을 만드는 비용을,
+ * 스택 트레이스를 만드는 예외(stackTrace=true)와 스택 트레이스를 만들지 않는 예외({@link BookmarkNotFoundException})로 비교합니다.
+ */
+@State(Scope.Thread)
+public class ErrorPathBenchmark {
+
+    private static final int STACK_DEPTH = 150; // 요청 처리 중 서비스 계층까지의 대략적인 호출 깊이
+
+    @Param({"true", "false"})
+    private boolean stackTrace;
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private long bookmarkId;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+        request = new MockHttpServletRequest("GET", "/bookmarks/999");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound() {
+        long id = ++bookmarkId;
+        try {
+            throwAt(STACK_DEPTH, id);
+            throw new IllegalStateException("Expected an exception for bookmark " + id);
+        } catch (BookmarkNotFoundException e) {
+            return handler.handleBookmarkNotFoundException(e, request);
+        } catch (RuntimeException e) {
+            // 스택 트레이스가 있는 예외도 같은 핸들러로 오류 응답을 만듦
+            return handler.handleBookmarkNotFoundException(new BookmarkNotFoundException(id), request);
+        }
+    }
+
+    private void throwAt(int depth, long id) {
+        if (depth == 0) {
+            throw stackTrace ? new RuntimeException("Bookmark not found with id: " + id) : new BookmarkNotFoundException(id);
+        }
+        throwAt(depth - 1, id);
+    }
+}
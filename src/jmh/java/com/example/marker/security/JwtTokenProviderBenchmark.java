@@ -0,0 +1,60 @@
+package com.example.marker.security;
+
+import com.example.marker.constants.JwtConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청마다 실행되는 토큰 처리 비용을 측정합니다.
+ * - resolveBearerToken: Authorization 헤더에서 토큰 추출 (JwtAuthenticationFilter)
+ * - validateToken, getUserIdFromToken: 검증 결과 캐시에 있는 토큰 (대부분의 요청)
+ * - verifyUncached: 캐시를 사용하지 않을 때의 서명 검증과 파싱 (토큰의 첫 요청)
+ * - createAccessToken: 로그인, 토큰 재발급
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "0c96f72541817944822b565104249a16079053b68125f8c1afc479adba5388af";
+    private static final long VALIDITY = 3_600_000L;
+
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = new JwtTokenProvider(SECRET, VALIDITY, VALIDITY, 10_000);
+        uncachedProvider = new JwtTokenProvider(SECRET, VALIDITY, VALIDITY, 0);
+        token = cachingProvider.createAccessToken(42L);
+        authorizationHeader = JwtConstants.BEARER_PREFIX + token;
+        cachingProvider.validateToken(token); // 검증 결과 캐시에 적재
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return cachingProvider.createAccessToken(42L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return cachingProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Long getUserIdFromToken() {
+        return cachingProvider.getUserIdFromToken(token);
+    }
+
+    @Benchmark
+    public boolean verifyUncached() {
+        return uncachedProvider.verify(token).isPresent();
+    }
+
+    @Benchmark
+    public String resolveBearerToken() {
+        return JwtTokenProvider.resolveBearerToken(authorizationHeader);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.marker.loadtest;
+
+/**
+ * 데이터 생성기와 부하 발생기가 함께 사용하는 데이터 규칙입니다.
+ * 부하 발생기는 DB를 읽지 않고 이 규칙으로 로그인할 사용자와 검색할 태그를 정합니다.
+ */
+final class Dataset {
+
+    /** 생성한 데이터를 사용하는 프로필 (application-loadtest.properties) */
+    static final String PROFILE = "loadtest";
+    /** 모든 사용자의 비밀번호 */
+    static final String PASSWORD = "loadtest-password";
+
+    private Dataset() {
+    }
+
+    /**
+     * @param userNumber 1부터 시작하는 사용자 번호 (사용자 ID와 같음)
+     */
+    static String email(int userNumber) {
+        return "user" + userNumber + "@loadtest.example.com";
+    }
+
+    /**
+     * @param rank 0부터 시작하는 태그 인기 순위 (태그 ID는 rank + 1)
+     */
+    static String tagName(int rank) {
+        return String.format("tag-%06d", rank);
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.marker.loadtest;
+
+import com.example.marker.MarkerApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 합성 데이터셋(사용자, 북마크, 태그)을 loadtest 프로필의 파일 DB에 생성합니다.
+ * <p>
+ * 같은 인자와 시드로 실행하면 항상 같은 데이터가 만들어지므로, 커밋 간에 같은 데이터로 부하 테스트 결과를 비교할 수 있습니다.
+ * 태그는 실제 서비스처럼 소수의 태그가 대부분의 북마크에 붙도록 Zipf 분포로 고르며, 북마크 제목에 태그 이름을 넣어 키워드 검색도 결과가 나오게 합니다.
+ * <p>
+ * 수백만 건을 엔티티로 저장하면 너무 오래 걸리므로, 애플리케이션을 웹 서버 없이 기동해 스키마만 만들게 한 뒤
+ * JDBC 배치 INSERT로 ID를 직접 지정해 저장합니다. 저장이 끝나면 시퀀스와 IDENTITY 컬럼을 생성한 ID 다음 값부터 시작하도록 조정합니다.
+ * 모든 사용자의 비밀번호는 {@link Dataset#PASSWORD}이며, BCrypt 해시는 한 번만 계산해 모든 사용자에게 사용합니다.
+ * <p>
+ * 실행: {@code ./gradlew generateDataset -PdatasetArgs="--users=10000 --bookmarks=1000000 --tags=50000 --seed=42"}
+ */
+public final class DatasetGenerator {
+
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50; // 엔티티의 @SequenceGenerator allocationSize
+    private static final int PROGRESS_INTERVAL = 100_000;
+    private static final LocalDateTime REFERENCE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0); // 생성 시각의 기준 (결과가 실행 시각에 따라 달라지지 않도록 고정)
+    private static final int CREATED_AT_RANGE_SECONDS = 2 * 365 * 24 * 60 * 60; // 기준 시각 이전 2년 사이에 생성된 것으로 기록
+
+    private final DataSource dataSource;
+    private final String passwordHash;
+    private final int users;
+    private final int bookmarks;
+    private final int tags;
+    private final ZipfDistribution tagDistribution;
+    private final int maxTagsPerBookmark;
+    private final int batchSize;
+    private final SplittableRandom random;
+
+    private DatasetGenerator(DataSource dataSource, String passwordHash, Arguments arguments) {
+        this.dataSource = dataSource;
+        this.passwordHash = passwordHash;
+        this.users = arguments.getInt("users", 10_000);
+        this.bookmarks = arguments.getInt("bookmarks", 1_000_000);
+        this.tags = arguments.getInt("tags", 50_000);
+        this.tagDistribution = new ZipfDistribution(tags, arguments.getDouble("tag-exponent", 1.0));
+        this.maxTagsPerBookmark = Math.min(arguments.getInt("max-tags-per-bookmark", 5), tags);
+        this.batchSize = arguments.getInt("batch-size", 5_000);
+        this.random = new SplittableRandom(arguments.getLong("seed", 42));
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Arguments arguments = Arguments.parse(args);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MarkerApplication.class)
+                .profiles(Dataset.PROFILE)
+                .web(WebApplicationType.NONE)
+                .run(args)) {
+            String passwordHash = context.getBean(PasswordEncoder.class).encode(Dataset.PASSWORD);
+            new DatasetGenerator(context.getBean(DataSource.class), passwordHash, arguments).generate();
+        }
+    }
+
+    private void generate() throws SQLException {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            requireEmpty(connection);
+            insertUsers(connection);
+            insertTags(connection);
+            long bookmarkTags = insertBookmarks(connection);
+            restartIdGenerators(connection, bookmarkTags);
+            connection.commit();
+            System.out.printf("Generated %,d users, %,d tags, %,d bookmarks and %,d bookmark tags in %.1f s.%n",
+                    users, tags, bookmarks, bookmarkTags, (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    // 기존 데이터와 ID가 겹치지 않도록 빈 DB에서만 생성 (generateDataset 태스크는 실행 전에 DB 파일을 삭제)
+    private void requireEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+            resultSet.next();
+            if (resultSet.getLong(1) > 0) {
+                throw new IllegalStateException("The loadtest database already contains data. Delete build/loadtest and run again.");
+            }
+        }
+    }
+
+    private void insertUsers(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users (id, email, password, created_at, updated_at, bookmarks_modified_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            // 목록 조회의 ETag와 Last-Modified 기준 시각 (북마크를 생성하는 지금 시각, 초 단위)
+            long bookmarksModifiedAt = System.currentTimeMillis() / 1000 * 1000;
+            for (int id = 1; id <= users; id++) {
+                LocalDateTime createdAt = randomTime();
+                insert.setLong(1, id);
+                insert.setString(2, Dataset.email(id));
+                insert.setString(3, passwordHash);
+                insert.setObject(4, createdAt);
+                insert.setObject(5, createdAt);
+                insert.setLong(6, bookmarksModifiedAt);
+                insert.addBatch();
+                if (id % batchSize == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void insertTags(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO tag (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)")) {
+            for (int rank = 0; rank < tags; rank++) {
+                LocalDateTime createdAt = randomTime();
+                insert.setLong(1, rank + 1);
+                insert.setString(2, Dataset.tagName(rank));
+                insert.setObject(3, createdAt);
+                insert.setObject(4, createdAt);
+                insert.addBatch();
+                if ((rank + 1) % batchSize == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    /**
+     * 북마크와 북마크-태그 연결을 함께 저장합니다.
+     * @return 저장한 북마크-태그 연결 수
+     */
+    private long insertBookmarks(Connection connection) throws SQLException {
+        long bookmarkTagId = 0;
+        int[] tagRanks = new int[maxTagsPerBookmark];
+        try (PreparedStatement insertBookmark = connection.prepareStatement(
+                "INSERT INTO bookmark (id, title, url, memo, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement insertBookmarkTag = connection.prepareStatement(
+                     "INSERT INTO bookmark_tag (id, bookmark_id, tag_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= bookmarks; id++) {
+                int tagCount = pickTags(tagRanks);
+                LocalDateTime createdAt = randomTime();
+                LocalDateTime updatedAt = random.nextInt(4) == 0 ? createdAt.plusSeconds(random.nextInt(30 * 24 * 60 * 60)) : createdAt;
+
+                insertBookmark.setLong(1, id);
+                insertBookmark.setString(2, tagCount > 0 ? "Bookmark " + id + " about " + Dataset.tagName(tagRanks[0]) : "Bookmark " + id);
+                insertBookmark.setString(3, "https://site" + random.nextInt(10_000) + ".example.com/articles/" + id);
+                insertBookmark.setString(4, random.nextInt(3) == 0 ? "Memo for bookmark " + id : null);
+                insertBookmark.setLong(5, 1 + random.nextInt(users));
+                insertBookmark.setObject(6, createdAt);
+                insertBookmark.setObject(7, updatedAt);
+                insertBookmark.addBatch();
+
+                for (int i = 0; i < tagCount; i++) {
+                    insertBookmarkTag.setLong(1, ++bookmarkTagId);
+                    insertBookmarkTag.setLong(2, id);
+                    insertBookmarkTag.setLong(3, tagRanks[i] + 1);
+                    insertBookmarkTag.setObject(4, createdAt);
+                    insertBookmarkTag.setObject(5, createdAt);
+                    insertBookmarkTag.addBatch();
+                }
+
+                if (id % batchSize == 0) {
+                    // 외래 키 순서에 맞게 북마크를 먼저 저장
+                    insertBookmark.executeBatch();
+                    insertBookmarkTag.executeBatch();
+                    connection.commit();
+                }
+                if (id % PROGRESS_INTERVAL == 0) {
+                    System.out.printf("%,d / %,d bookmarks%n", id, bookmarks);
+                }
+            }
+            insertBookmark.executeBatch();
+            insertBookmarkTag.executeBatch();
+            connection.commit();
+        }
+        return bookmarkTagId;
+    }
+
+    /**
+     * 북마크 하나에 붙일 서로 다른 태그를 고릅니다.
+     * @return 고른 태그 수 (tagRanks 앞부분에 인기 순위가 채워짐)
+     */
+    private int pickTags(int[] tagRanks) {
+        int tagCount = random.nextInt(maxTagsPerBookmark + 1);
+        int picked = 0;
+        while (picked < tagCount) {
+            int rank = tagDistribution.sample(random);
+            boolean duplicate = false;
+            for (int i = 0; i < picked; i++) {
+                duplicate |= tagRanks[i] == rank;
+            }
+            if (!duplicate) {
+                tagRanks[picked++] = rank;
+            }
+        }
+        return tagCount;
+    }
+
+    private LocalDateTime randomTime() {
+        return REFERENCE_TIME.minusSeconds(random.nextInt(CREATED_AT_RANGE_SECONDS));
+    }
+
+    /**
+     * 애플리케이션이 새로 저장하는 엔티티의 ID가 생성한 ID와 겹치지 않도록 시퀀스와 IDENTITY 컬럼의 시작 값을 조정합니다. (H2 문법)
+     * 시퀀스는 pooled 방식이라 시퀀스 값 이전의 allocationSize개 ID를 사용하므로, 그만큼 더 큰 값부터 시작합니다.
+     */
+    private void restartIdGenerators(Connection connection, long bookmarkTags) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE bookmark_seq RESTART WITH " + (bookmarks + SEQUENCE_ALLOCATION_SIZE + 1));
+            statement.execute("ALTER SEQUENCE tag_seq RESTART WITH " + (tags + SEQUENCE_ALLOCATION_SIZE + 1));
+            statement.execute("ALTER SEQUENCE bookmark_tag_seq RESTART WITH " + (bookmarkTags + SEQUENCE_ALLOCATION_SIZE + 1));
+            statement.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + (users + 1));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.marker.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 한 작업 종류의 응답 시간(나노초)과 실패 수를 기록합니다.
+ * 작업 스레드마다 따로 만들어 잠금 없이 기록하고, 측정이 끝난 뒤 {@link #merge(LatencyRecorder)}로 합칩니다.
+ * 모든 측정값을 보관하므로 백분위 값에 히스토그램 구간에 따른 오차가 없습니다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long failures;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = latencyNanos;
+        if (!success) {
+            failures++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        failures += other.failures;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getFailures() {
+        return failures;
+    }
+
+    /**
+     * 측정값을 정렬한 뒤 백분위 값을 계산합니다. (nearest-rank 방식)
+     * @param quantiles 0보다 크고 1 이하인 분위 (예: 0.99)
+     * @return 분위별 응답 시간 (나노초). 측정값이 없으면 0
+     */
+    long[] percentiles(double... quantiles) {
+        long[] values = new long[quantiles.length];
+        if (count == 0) {
+            return values;
+        }
+        Arrays.sort(samples, 0, count);
+        for (int i = 0; i < quantiles.length; i++) {
+            int rank = (int) Math.ceil(quantiles[i] * count);
+            values[i] = samples[Math.min(Math.max(rank, 1), count) - 1];
+        }
+        return values;
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.marker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 실행 중인 서버에 정해진 비율의 요청(목록, 상세, 검색, 태그 조회, 생성, 수정, 로그인)을 보내고
+ * 작업별 처리량과 응답 시간 백분위(p50, p99, p99.9)를 출력합니다.
+ * <p>
+ * 가상 스레드로 실행하는 작업자(concurrency개)가 각각 {@link DatasetGenerator}가 만든 사용자 중 한 명으로 로그인한 뒤,
+ * 응답을 받으면 바로 다음 요청을 보냅니다(closed loop). 서버가 느려지면 요청 속도도 함께 줄어들므로,
+ * 응답 시간 백분위는 일정한 속도로 요청이 들어오는 상황보다 낮게 측정될 수 있습니다. 처리량과 함께 비교해야 합니다.
+ * 워밍업 기간의 요청은 결과에서 제외합니다.
+ * <p>
+ * 실행: {@code ./gradlew loadTest -PloadArgs="--concurrency=64 --duration=60s --mix=list:40,detail:25,search:10,tag:10,create:5,update:5,login:5"}
+ * (--users, --tags, --tag-exponent는 데이터 생성 시 사용한 값과 같아야 합니다.)
+ */
+public final class LoadDriver {
+
+    private static final String DEFAULT_MIX = "list:40,detail:25,search:10,tag:10,create:5,update:5,login:5";
+    private static final int PAGE_SIZE = 20;
+    private static final int LIST_PAGES = 5; // 목록 조회 시 무작위로 고를 페이지 범위
+    private static final int KNOWN_BOOKMARK_LIMIT = 100; // 작업자마다 상세 조회/수정 대상으로 기억할 북마크 수
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static final int MAX_LOGIN_ATTEMPTS = 10; // 429(비밀번호 해싱 대기열 초과)를 받은 로그인을 다시 시도할 최대 횟수
+
+    enum Operation {
+        LIST, DETAIL, SEARCH, TAG, CREATE, UPDATE, LOGIN
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final URI baseUri;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int users;
+    private final ZipfDistribution tagDistribution;
+    private final long seed;
+    private final Operation[] operationTable; // 비율만큼 작업을 반복해 넣은 표 (무작위 인덱스로 작업 선택)
+
+    private LoadDriver(Arguments arguments) {
+        this.baseUri = URI.create(arguments.getString("base-url", "http://localhost:8080"));
+        this.concurrency = arguments.getInt("concurrency", 32);
+        this.warmup = arguments.getDuration("warmup", Duration.ofSeconds(10));
+        this.duration = arguments.getDuration("duration", Duration.ofSeconds(60));
+        this.users = arguments.getInt("users", 10_000);
+        this.tagDistribution = new ZipfDistribution(arguments.getInt("tags", 50_000), arguments.getDouble("tag-exponent", 1.0));
+        this.seed = arguments.getLong("seed", 42);
+        this.operationTable = operationTable(arguments.getString("mix", DEFAULT_MIX));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(Arguments.parse(args)).run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("Running %d worker(s) against %s: warm-up %s, measurement %s%n", concurrency, baseUri, warmup, duration);
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Worker worker = new Worker(new SplittableRandom(seed * 31 + i));
+                futures.add(executor.submit(() -> worker.run(measureStart, end)));
+            }
+        }
+
+        Map<Operation, LatencyRecorder> results = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+            future.get().forEach((operation, recorder) -> results.computeIfAbsent(operation, o -> new LatencyRecorder()).merge(recorder));
+        }
+        report(results, duration.toNanos() / 1e9);
+    }
+
+    private static Operation[] operationTable(String mix) {
+        List<Operation> table = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Operation operation = Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(parts[1].trim());
+            for (int i = 0; i < weight; i++) {
+                table.add(operation);
+            }
+        }
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("The request mix is empty: " + mix);
+        }
+        return table.toArray(Operation[]::new);
+    }
+
+    private void report(Map<Operation, LatencyRecorder> results, double seconds) {
+        System.out.printf("%n%-8s %10s %10s %10s %10s %10s %10s%n", "op", "count", "ops/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "failures");
+        LatencyRecorder total = new LatencyRecorder();
+        for (Map.Entry<Operation, LatencyRecorder> entry : results.entrySet()) {
+            printRow(entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue(), seconds);
+            total.merge(entry.getValue());
+        }
+        printRow("total", total, seconds);
+    }
+
+    private static void printRow(String name, LatencyRecorder recorder, double seconds) {
+        long[] percentiles = recorder.percentiles(QUANTILES);
+        System.out.printf("%-8s %10d %10.1f %10.2f %10.2f %10.2f %10d%n", name, recorder.getCount(), recorder.getCount() / seconds,
+                percentiles[0] / 1e6, percentiles[1] / 1e6, percentiles[2] / 1e6, recorder.getFailures());
+    }
+
+    /**
+     * 한 사용자처럼 요청을 보내는 작업자입니다. 상태(토큰, 최근에 본 북마크 ID)는 자기 스레드에서만 사용합니다.
+     */
+    private final class Worker {
+
+        private final SplittableRandom random;
+        private final int userNumber;
+        private final long[] knownBookmarkIds = new long[KNOWN_BOOKMARK_LIMIT];
+        private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        private int knownCount;
+        private int nextKnownSlot;
+        private String token;
+
+        Worker(SplittableRandom random) {
+            this.random = random;
+            this.userNumber = 1 + random.nextInt(users);
+        }
+
+        Map<Operation, LatencyRecorder> run(long measureStart, long end) throws IOException, InterruptedException {
+            // 모든 작업자가 동시에 로그인하므로, 비밀번호 해싱 대기열이 가득 차 429를 받으면 Retry-After만큼 기다렸다가 다시 시도
+            HttpResponse<String> login = login();
+            if (!handle(Operation.LOGIN, login)) {
+                throw new IllegalStateException("Login as " + Dataset.email(userNumber) + " failed with status " + login.statusCode()
+                        + ". Generate the dataset and start the server with the loadtest profile first.");
+            }
+            long now;
+            while ((now = System.nanoTime()) < end) {
+                Operation operation = operationTable[random.nextInt(operationTable.length)];
+                if ((operation == Operation.DETAIL || operation == Operation.UPDATE) && knownCount == 0) {
+                    operation = Operation.LIST; // 아직 본 북마크가 없으면 목록부터 조회
+                }
+                boolean success;
+                try {
+                    success = handle(operation, client.send(request(operation), HttpResponse.BodyHandlers.ofString()));
+                } catch (IOException e) {
+                    success = false;
+                }
+                long latency = System.nanoTime() - now;
+                if (now >= measureStart) {
+                    recorders.computeIfAbsent(operation, o -> new LatencyRecorder()).record(latency, success);
+                }
+            }
+            return recorders;
+        }
+
+        private HttpRequest request(Operation operation) throws IOException {
+            return switch (operation) {
+                case LIST -> get("/bookmarks?page=" + random.nextInt(LIST_PAGES) + "&size=" + PAGE_SIZE);
+                case DETAIL -> get("/bookmarks/" + knownBookmarkId());
+                case SEARCH -> get("/bookmarks?size=" + PAGE_SIZE + "&keyword=" + encode(randomTagName()));
+                case TAG -> get("/bookmarks?size=" + PAGE_SIZE + "&tag=" + encode(randomTagName()));
+                case CREATE -> send("POST", "/bookmarks", bookmarkBody("Created"));
+                case UPDATE -> send("PUT", "/bookmarks/" + knownBookmarkId(), bookmarkBody("Updated"));
+                case LOGIN -> loginRequest();
+            };
+        }
+
+        /**
+         * 응답에서 이후 요청에 필요한 값(토큰, 북마크 ID)을 기억합니다.
+         * @return 성공 응답(2xx, 3xx)이면 true
+         */
+        private boolean handle(Operation operation, HttpResponse<String> response) throws IOException {
+            int status = response.statusCode();
+            if (status == 401 && operation != Operation.LOGIN) {
+                token = null; // 토큰이 만료되었으면 다음 요청 전에 다시 로그인
+            }
+            if (status >= 400) {
+                return false;
+            }
+            switch (operation) {
+                case LIST, SEARCH, TAG -> {
+                    for (JsonNode bookmark : objectMapper.readTree(response.body()).path("content")) {
+                        remember(bookmark.path("id").asLong());
+                    }
+                }
+                case CREATE -> remember(objectMapper.readTree(response.body()).path("id").asLong());
+                case LOGIN -> token = objectMapper.readTree(response.body()).path("token").asText();
+                default -> { }
+            }
+            return true;
+        }
+
+        private HttpRequest get(String path) throws IOException {
+            return authorized(path).GET().build();
+        }
+
+        private HttpRequest send(String method, String path, Object body) throws IOException {
+            return authorized(path)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        }
+
+        // 토큰이 없으면 다시 로그인하며, 다시 로그인하지 못하면 요청을 보내지 않고 실패로 기록
+        private HttpRequest.Builder authorized(String path) throws IOException {
+            if (token == null) {
+                HttpResponse<String> login;
+                try {
+                    login = login();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                if (!handle(Operation.LOGIN, login)) {
+                    throw new IOException("Re-login failed with status " + login.statusCode());
+                }
+            }
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json")
+                    .header("Authorization", "Bearer " + token);
+        }
+
+        private HttpResponse<String> login() throws IOException, InterruptedException {
+            for (int attempt = 1; ; attempt++) {
+                HttpResponse<String> response = client.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 429 || attempt == MAX_LOGIN_ATTEMPTS) {
+                    return response;
+                }
+                Thread.sleep(retryAfterMillis(response));
+            }
+        }
+
+        // Retry-After(초)에 작업자마다 다른 지연을 더해, 다시 시도하는 로그인이 한꺼번에 몰리지 않도록 함
+        private long retryAfterMillis(HttpResponse<String> response) {
+            long seconds = response.headers().firstValue("Retry-After").map(value -> {
+                try {
+                    return Long.parseLong(value.trim());
+                } catch (NumberFormatException e) {
+                    return 1L;
+                }
+            }).orElse(1L);
+            return seconds * 1_000 + random.nextInt(1_000);
+        }
+
+        private HttpRequest loginRequest() throws IOException {
+            Map<String, String> body = Map.of("email", Dataset.email(userNumber), "password", Dataset.PASSWORD);
+            return HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        }
+
+        private Map<String, Object> bookmarkBody(String prefix) {
+            List<String> tags = new ArrayList<>();
+            int tagCount = random.nextInt(4);
+            for (int i = 0; i < tagCount; i++) {
+                String tag = randomTagName();
+                if (!tags.contains(tag)) {
+                    tags.add(tag);
+                }
+            }
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("title", prefix + " bookmark " + random.nextInt(1_000_000));
+            body.put("url", "https://loadtest.example.com/" + random.nextInt(1_000_000));
+            body.put("memo", null);
+            body.put("tags", tags);
+            return body;
+        }
+
+        private void remember(long bookmarkId) {
+            if (bookmarkId <= 0) {
+                return;
+            }
+            knownBookmarkIds[nextKnownSlot] = bookmarkId;
+            nextKnownSlot = (nextKnownSlot + 1) % knownBookmarkIds.length;
+            knownCount = Math.min(knownCount + 1, knownBookmarkIds.length);
+        }
+
+        private long knownBookmarkId() {
+            return knownBookmarkIds[random.nextInt(knownCount)];
+        }
+
+        private String randomTagName() {
+            return Dataset.tagName(tagDistribution.sample(random));
+        }
+
+        private String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+    }
+}
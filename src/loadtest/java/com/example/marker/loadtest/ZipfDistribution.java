@@ -0,0 +1,35 @@
+package com.example.marker.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 0부터 size-1까지의 순위를 Zipf 분포(순위 k의 확률이 1/(k+1)^exponent에 비례)로 뽑습니다.
+ * 누적 분포를 미리 계산해 두고 이진 탐색으로 뽑으므로, 한 번 뽑는 비용은 O(log size)입니다.
+ * 같은 시드의 난수 생성기를 넘기면 항상 같은 순서로 뽑힙니다.
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.marker.cache;
+
+import com.example.marker.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자별로 북마크가 마지막으로 변경된 시각(watermark)을 관리합니다.
+ * 목록 조회 응답의 ETag와 Last-Modified를 이 값으로 계산하므로, 조건부 요청(If-None-Match, If-Modified-Since)은
+ * 목록을 조회하지 않고 사용자 행의 기본 키 조회 한 번으로 304 Not Modified를 판단할 수 있습니다.
+ * - 값은 users 테이블에 저장하며, 북마크를 변경하는 트랜잭션 안에서 함께 갱신합니다.
+ *   따라서 어느 노드에서 변경하더라도 커밋과 동시에 모든 노드에 반영되며, 캐시 무효화 전파의 지연이나 유실에 영향을 받지 않습니다.
+ * - 커밋 전에는 다른 요청에 이전 값이 보이므로, 변경이 커밋되기 전에 조회한 목록이 새 값의 ETag로 응답되는 일이 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookmarkWatermarks {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자의 북마크가 마지막으로 변경된 시각을 반환합니다.
+     * @param userId 사용자 ID
+     * @return epoch milliseconds (초 단위로 맞춘 값, 기록된 적이 없으면 0)
+     */
+    public long lastModified(Long userId) {
+        return userRepository.findBookmarksModifiedAt(userId).orElse(0L);
+    }
+
+    /**
+     * 여러 사용자의 북마크가 마지막으로 변경된 시각을 한 번의 쿼리로 반환합니다.
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 epoch milliseconds (기록된 적이 없는 사용자는 포함하지 않음)
+     */
+    public Map<Long, Long> lastModified(Collection<Long> userIds) {
+        Map<Long, Long> lastModified = new HashMap<>();
+        for (UserRepository.BookmarksModifiedAtOnly row : userRepository.findBookmarksModifiedAtByIdIn(userIds)) {
+            if (row.getBookmarksModifiedAt() != null) {
+                lastModified.put(row.getId(), row.getBookmarksModifiedAt());
+            }
+        }
+        return lastModified;
+    }
+
+    /**
+     * 사용자의 북마크가 변경되었음을 기록합니다. 북마크를 변경한 트랜잭션 안에서 호출해야 변경과 함께 커밋됩니다.
+     * @param userId 북마크가 변경된 사용자 ID
+     */
+    public void touch(Long userId) {
+        userRepository.touchBookmarksModifiedAt(userId, System.currentTimeMillis() / 1000 * 1000);
+    }
+}
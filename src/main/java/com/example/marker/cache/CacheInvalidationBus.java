@@ -0,0 +1,132 @@
+package com.example.marker.cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 이벤트를 다른 노드로 브로드캐스트하는 버스입니다.
+ * 트랜잭션 안에서 발생한 무효화는 트랜잭션이 끝날 때까지 모아 두었다가 영역별로 묶어서 전송하고,
+ * 한 메시지에 담기는 키의 수는 maxBatchSize를 넘지 않도록 나누어 보냅니다.
+ * 트랜잭션 밖에서 발생한 무효화는 즉시 전송합니다.
+ */
+@Slf4j
+public class CacheInvalidationBus {
+
+    @Getter
+    private final String nodeId;
+    private final CacheInvalidationTransport transport;
+    private final int maxBatchSize;
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    public CacheInvalidationBus(String nodeId, CacheInvalidationTransport transport, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.nodeId = nodeId;
+        this.transport = transport;
+        this.maxBatchSize = maxBatchSize;
+        transport.register(this::receive);
+    }
+
+    /**
+     * 다른 노드에서 발행된 무효화 메시지를 처리할 리스너를 등록합니다.
+     * 자기 자신이 발행한 메시지는 리스너에 전달되지 않습니다.
+     * @param listener 무효화 메시지 리스너
+     */
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 특정 영역의 키를 다른 노드에서 무효화하도록 요청합니다.
+     * @param region 영역(캐시) 이름
+     * @param key 무효화할 키
+     */
+    public void publish(String region, Object key) {
+        String stringKey = String.valueOf(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingInvalidations().add(region, stringKey);
+            return;
+        }
+        send(region, List.of(stringKey));
+    }
+
+    /**
+     * 특정 영역 전체를 다른 노드에서 비우도록 요청합니다.
+     * @param region 영역(캐시) 이름
+     */
+    public void publishClear(String region) {
+        send(new CacheInvalidationMessage(nodeId, region, List.of()));
+    }
+
+    private PendingInvalidations pendingInvalidations() {
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private void send(String region, List<String> keys) {
+        for (int from = 0; from < keys.size(); from += maxBatchSize) {
+            List<String> batch = List.copyOf(keys.subList(from, Math.min(from + maxBatchSize, keys.size())));
+            send(new CacheInvalidationMessage(nodeId, region, batch));
+        }
+    }
+
+    private void send(CacheInvalidationMessage message) {
+        try {
+            transport.send(message);
+        } catch (RuntimeException e) {
+            // 전송 실패가 비즈니스 로직을 실패시키지 않도록 로그만 남깁니다.
+            if (message.isClear()) {
+                log.warn("Failed to broadcast clear for region '{}': {}", message.getRegion(), e.getMessage());
+            } else {
+                log.warn("Failed to broadcast {} invalidation(s) for region '{}': {}",
+                        message.getKeys().size(), message.getRegion(), e.getMessage());
+            }
+        }
+    }
+
+    private void receive(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.getOriginNodeId())) {
+            return; // 자기 자신이 보낸 메시지는 이미 로컬에 반영되어 있음
+        }
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            listener.accept(message);
+        }
+    }
+
+    /**
+     * 트랜잭션 하나 동안 발생한 무효화 키를 영역별로 모아 두는 객체입니다.
+     * 트랜잭션이 커밋되거나 롤백된 뒤 한 번에 전송합니다.
+     */
+    private class PendingInvalidations implements TransactionSynchronization {
+
+        private final Map<String, Set<String>> keysByRegion = new LinkedHashMap<>();
+
+        void add(String region, String key) {
+            keysByRegion.computeIfAbsent(region, r -> new LinkedHashSet<>()).add(key);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+            // 롤백된 경우에도 로컬 캐시는 이미 변경되었을 수 있으므로 다른 노드에는 항상 무효화를 전파합니다.
+            keysByRegion.forEach((region, keys) -> send(region, new ArrayList<>(keys)));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.marker.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 노드 간에 전달되는 캐시 무효화 메시지입니다.
+ * 하나의 메시지에는 같은 영역(region)에 속한 여러 개의 키가 묶여서 전달됩니다.
+ * 키 목록이 비어 있으면 해당 영역 전체를 비우라는 의미입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CacheInvalidationMessage implements Serializable {
+
+    /**
+     * 메시지를 발행한 노드의 ID. 자기 자신이 보낸 메시지를 무시하는 데 사용합니다.
+     */
+    private final String originNodeId;
+
+    /**
+     * 무효화할 영역의 이름. 캐시의 경우 캐시 이름과 같습니다.
+     */
+    private final String region;
+
+    /**
+     * 무효화할 키 목록.
+     */
+    private final List<String> keys;
+
+    public boolean isClear() {
+        return keys.isEmpty();
+    }
+}
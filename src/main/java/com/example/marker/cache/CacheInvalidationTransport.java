@@ -0,0 +1,23 @@
+package com.example.marker.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지를 다른 노드로 전달하는 전송 계층(SPI)입니다.
+ * Redis Pub/Sub, Kafka, JGroups 등 실제 전송 수단은 이 인터페이스를 구현한 Bean을 등록하여 교체할 수 있습니다.
+ * 별도의 구현이 없으면 같은 JVM 안에서만 전달되는 {@link LoopbackCacheInvalidationTransport}가 사용됩니다.
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * 메시지를 모든 노드(자기 자신 포함)에 전달합니다.
+     * @param message 전달할 무효화 메시지
+     */
+    void send(CacheInvalidationMessage message);
+
+    /**
+     * 다른 노드로부터 수신한 메시지를 처리할 수신자를 등록합니다.
+     * @param receiver 메시지 수신자
+     */
+    void register(Consumer<CacheInvalidationMessage> receiver);
+}
@@ -0,0 +1,37 @@
+package com.example.marker.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캐시 워밍업 속도를 제한하는 간단한 Rate Limiter입니다.
+ * 초당 허용량에 맞춰 다음 작업 시작 시각을 예약하고, 예약 시각이 될 때까지 호출 스레드를 대기시킵니다.
+ * 워밍업 전용 스레드에서만 호출되므로 요청 처리 스레드를 막지 않습니다.
+ */
+public class CacheWarmupRateLimiter {
+
+    private final long intervalNanos;
+    private final AtomicLong nextFreeSlot = new AtomicLong(System.nanoTime());
+
+    public CacheWarmupRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    /**
+     * 지정한 개수만큼의 허용량을 얻을 때까지 대기합니다.
+     * @param permits 필요한 허용량 (예: 적재할 북마크 수)
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long now = System.nanoTime();
+        long cost = intervalNanos * permits;
+        long reserved = nextFreeSlot.getAndUpdate(previous -> Math.max(previous, now) + cost);
+        long waitNanos = Math.max(reserved, now) - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
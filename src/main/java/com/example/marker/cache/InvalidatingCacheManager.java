@@ -0,0 +1,167 @@
+package com.example.marker.cache;
+
+import com.example.marker.metrics.RequestTimings;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 로컬 CacheManager를 감싸서, 캐시 항목이 제거될 때 다른 노드에도 무효화를 전파하는 CacheManager입니다.
+ * 각 노드는 여전히 자신의 로컬 캐시를 사용하므로 조회 성능은 그대로 유지됩니다.
+ * <p>
+ * put은 전파하지 않습니다. @Cacheable의 캐시 적재도 put으로 이루어지기 때문에, put을 전파하면
+ * 단순 조회만으로 다른 노드의 유효한 캐시가 지워지게 됩니다. 데이터를 수정하면서 캐시를 갱신하는 경우(@CachePut)에는
+ * 호출하는 쪽에서 {@link CacheInvalidationBus#publish(String, Object)}로 직접 전파해야 합니다.
+ */
+public class InvalidatingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheInvalidationBus bus;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public InvalidatingCacheManager(CacheManager delegate, CacheInvalidationBus bus) {
+        this.delegate = delegate;
+        this.bus = bus;
+        bus.subscribe(this::applyRemoteInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new InvalidatingCache(target, bus));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * 다른 노드에서 발생한 무효화를 로컬 캐시에 반영합니다.
+     * 감싸지 않은 원본 캐시에서 직접 제거하므로 메시지가 다시 전파되지 않습니다.
+     */
+    private void applyRemoteInvalidation(CacheInvalidationMessage message) {
+        if (!delegate.getCacheNames().contains(message.getRegion())) {
+            return; // 캐시가 아닌 영역(또는 이 노드에 없는 캐시)에 대한 메시지
+        }
+        Cache target = delegate.getCache(message.getRegion());
+        if (target == null) {
+            return;
+        }
+        if (message.isClear()) {
+            target.clear();
+            return;
+        }
+        for (String key : message.getKeys()) {
+            target.evict(key);
+        }
+    }
+
+    /**
+     * 제거(evict/clear) 연산을 버스로 전파하는 Cache 데코레이터입니다.
+     * 다른 노드에서도 동일하게 무효화되려면 캐시 키는 문자열이어야 합니다.
+     * 요청 단계별 시간을 측정하는 중이면 조회(get)와 적재(put) 시간을 캐시 단계에 더합니다.
+     */
+    static class InvalidatingCache implements Cache {
+
+        private final Cache target;
+        private final CacheInvalidationBus bus;
+
+        InvalidatingCache(Cache target, CacheInvalidationBus bus) {
+            this.target = target;
+            this.bus = bus;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            RequestTimings requestTimings = RequestTimings.current();
+            if (requestTimings == null) {
+                return target.get(key);
+            }
+            requestTimings.start(RequestTimings.Stage.CACHE);
+            try {
+                return target.get(key);
+            } finally {
+                requestTimings.stop(RequestTimings.Stage.CACHE);
+            }
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return target.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return target.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            RequestTimings requestTimings = RequestTimings.current();
+            if (requestTimings == null) {
+                target.put(key, value);
+                return;
+            }
+            requestTimings.start(RequestTimings.Stage.CACHE);
+            try {
+                target.put(key, value);
+            } finally {
+                requestTimings.stop(RequestTimings.Stage.CACHE);
+            }
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return target.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+            bus.publish(getName(), key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean evicted = target.evictIfPresent(key);
+            // 로컬에 없더라도 다른 노드에는 남아 있을 수 있으므로 항상 전파합니다.
+            bus.publish(getName(), key);
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+            bus.publishClear(getName());
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean invalidated = target.invalidate();
+            bus.publishClear(getName());
+            return invalidated;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.marker.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * {@link InvalidatingCacheManager}가 감싼 캐시의 메트릭(cache.gets, cache.puts, cache.evictions 등)을 등록합니다.
+ * Spring Boot는 CaffeineCache 타입의 캐시만 자동으로 등록하므로, 감싼 캐시는 이 Provider로 원본 Caffeine 캐시의 통계를 노출합니다.
+ * 통계는 Caffeine 빌더에서 recordStats()를 지정한 캐시에서만 수집됩니다.
+ */
+public class InvalidatingCacheMeterBinderProvider
+        implements CacheMeterBinderProvider<InvalidatingCacheManager.InvalidatingCache> {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MeterBinder getMeterBinder(InvalidatingCacheManager.InvalidatingCache cache, Iterable<Tag> tags) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            return new CaffeineCacheMetrics<>((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeineCache,
+                    cache.getName(), tags);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.marker.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에 등록된 수신자들에게 메시지를 그대로 전달하는 전송 계층 구현체입니다.
+ * 단일 인스턴스 환경의 기본값이며, 테스트에서는 하나의 인스턴스를 여러 버스가 공유하여 여러 노드를 흉내낼 수 있습니다.
+ */
+public class LoopbackCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<Consumer<CacheInvalidationMessage>> receivers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> receiver : receivers) {
+            receiver.accept(message);
+        }
+    }
+
+    @Override
+    public void register(Consumer<CacheInvalidationMessage> receiver) {
+        receivers.add(receiver);
+    }
+}
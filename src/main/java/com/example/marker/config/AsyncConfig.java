@@ -0,0 +1,79 @@
+package com.example.marker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업(@Async)을 위한 설정 클래스입니다.
+ * 작업 종류별로 크기가 제한된 전용 Executor를 두어, 백그라운드 작업이 요청 처리 스레드나 DB 커넥션을 과도하게 점유하지 않도록 합니다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 I/O 대기가 대부분인 Executor도 가상 스레드로 실행합니다.
+ * 이때도 스레드 수 제한은 그대로 두어 동시에 DB를 사용하는 작업 수의 상한으로 사용합니다.
+ * 주기적인 작업(@Scheduled, 예: 가져오기 작업의 heartbeat)은 Spring Boot의 기본 스케줄러에서 실행합니다.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    public static final String CACHE_WARMUP_EXECUTOR = "cacheWarmupExecutor";
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+    public static final String IMPORT_JOB_EXECUTOR = "importJobExecutor";
+
+    /**
+     * 캐시 워밍업 전용 Executor. 단일 스레드로 동작하며, 대기열이 가득 차면 워밍업 요청을 버립니다.
+     * (워밍업은 최적화일 뿐이므로 실패해도 기능에는 영향이 없음)
+     */
+    @Bean(name = CACHE_WARMUP_EXECUTOR)
+    public ThreadPoolTaskExecutor cacheWarmupExecutor(@Value("${marker.cache.warmup.queue-capacity:100}") int queueCapacity,
+                                                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cache-warmup-");
+        executor.setRejectedExecutionHandler((task, pool) -> log.debug("Cache warm-up queue is full, skipping task."));
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해싱(BCrypt) 전용 Executor. 해싱은 CPU를 많이 사용하므로 스레드 수를 제한하여
+     * 로그인이 몰려도 북마크 조회 등 다른 요청이 처리될 수 있도록 합니다.
+     * CPU 작업은 가상 스레드로 얻는 이점이 없으므로 가상 스레드 모드에서도 플랫폼 스레드를 사용합니다.
+     * 대기열이 가득 차면 작업을 거부하며(TaskRejectedException), 호출 측에서 429 응답으로 변환합니다.
+     */
+    @Bean(name = PASSWORD_HASHING_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashingExecutor(@Value("${marker.security.password.hashing-threads:2}") int threads,
+                                                          @Value("${marker.security.password.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        return executor;
+    }
+
+    /**
+     * 비동기 북마크 가져오기 작업 전용 Executor. 스레드 수가 동시에 DB에 쓰는 가져오기 작업 수의 상한이 됩니다.
+     * 대기열 크기는 동시에 진행할 수 있는 전체 작업 수와 같으며, 작업 수 제한은 ImportJobService에서 먼저 검사합니다.
+     */
+    @Bean(name = IMPORT_JOB_EXECUTOR)
+    public ThreadPoolTaskExecutor importJobExecutor(@Value("${marker.import.jobs.worker-threads:2}") int threads,
+                                                    @Value("${marker.import.jobs.max-active:20}") int maxActive,
+                                                    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(maxActive);
+        executor.setThreadNamePrefix("import-job-");
+        return executor;
+    }
+}
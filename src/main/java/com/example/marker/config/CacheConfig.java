@@ -0,0 +1,71 @@
+package com.example.marker.config;
+
+import com.example.marker.cache.CacheInvalidationBus;
+import com.example.marker.cache.CacheInvalidationTransport;
+import com.example.marker.cache.InvalidatingCacheManager;
+import com.example.marker.cache.InvalidatingCacheMeterBinderProvider;
+import com.example.marker.cache.LoopbackCacheInvalidationTransport;
+import com.example.marker.constants.CacheConstants;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 관련 Bean을 구성하는 설정 클래스입니다.
+ * 각 노드는 로컬 인메모리 캐시를 사용하고, 캐시 무효화는 {@link CacheInvalidationBus}를 통해 다른 노드로 전파합니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * 기본 전송 계층. 다른 CacheInvalidationTransport Bean이 등록되어 있으면 사용되지 않습니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationTransport.class)
+    public CacheInvalidationTransport cacheInvalidationTransport() {
+        return new LoopbackCacheInvalidationTransport();
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(
+            CacheInvalidationTransport transport,
+            @Value("${marker.cache.invalidation.node-id:}") String nodeId,
+            @Value("${marker.cache.invalidation.max-batch-size:64}") int maxBatchSize) {
+        String resolvedNodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        return new CacheInvalidationBus(resolvedNodeId, transport, maxBatchSize);
+    }
+
+    /**
+     * 캐시 메트릭(cache.gets 등)을 /actuator/prometheus로 노출합니다.
+     */
+    @Bean
+    public InvalidatingCacheMeterBinderProvider invalidatingCacheMeterBinderProvider() {
+        return new InvalidatingCacheMeterBinderProvider();
+    }
+
+    /**
+     * 캐시별로 최대 크기가 제한된 Caffeine 로컬 캐시를 사용합니다.
+     * 최대 크기를 넘으면 오래 사용되지 않은 항목부터 제거되므로 메모리 사용량이 일정 수준을 넘지 않습니다.
+     * 적중률 메트릭을 위해 통계를 수집합니다 (조회마다 LongAdder를 증가시키는 정도의 비용).
+     */
+    @Bean
+    public CacheManager cacheManager(CacheInvalidationBus cacheInvalidationBus,
+                                     @Value("${marker.cache.bookmark.max-size:10000}") long bookmarkCacheMaxSize) {
+        CaffeineCacheManager localCacheManager = new CaffeineCacheManager();
+        // 빈 목록을 지정하면 정의되지 않은 캐시가 동적으로 생성되지 않습니다.
+        localCacheManager.setCacheNames(List.of());
+        localCacheManager.registerCustomCache(CacheConstants.BOOKMARK_CACHE, Caffeine.newBuilder()
+                .maximumSize(bookmarkCacheMaxSize)
+                .recordStats()
+                .build());
+        return new InvalidatingCacheManager(localCacheManager, cacheInvalidationBus);
+    }
+}
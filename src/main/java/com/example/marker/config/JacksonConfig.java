@@ -0,0 +1,76 @@
+package com.example.marker.config;
+
+import com.example.marker.dto.BookmarkPage;
+import com.example.marker.dto.BookmarkPageSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 전체가 함께 사용하는 ObjectMapper에 직렬화기를 등록하는 설정 클래스입니다.
+ * HTTP 메시지 변환기도 같은 ObjectMapper를 사용하므로, 요청마다 ObjectMapper를 새로 만들지 않습니다.
+ * JSON 외에 바이너리 형식(CBOR, Smile)도 Accept 헤더로 선택할 수 있으며, 같은 설정과 직렬화기를 사용합니다.
+ */
+@Configuration
+public class JacksonConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    // Spring Boot가 등록하는 빌더(prototype)로, 가져올 때마다 Boot의 Jackson 설정과 아래 직렬화기가 적용된 새 빌더를 반환
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public JacksonConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    /**
+     * 북마크 목록 응답을 DTO 변환 없이 바로 출력하는 직렬화기를 등록합니다.
+     * marker.json.compact-dates가 true이면 목록 응답의 날짜를 epoch milliseconds 숫자로 출력합니다.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer bookmarkPageSerializerCustomizer(
+            @Value("${marker.json.compact-dates:false}") boolean compactDates) {
+        return builder -> builder.serializerByType(BookmarkPage.class, new BookmarkPageSerializer(compactDates));
+    }
+
+    /**
+     * CBOR(application/cbor)와 Smile(application/x-jackson-smile) 변환기가 Boot의 Jackson 설정과 위 직렬화기를 사용하도록 교체합니다.
+     * 두 형식의 라이브러리가 있으면 Spring MVC가 기본 변환기로 먼저 등록하는데, 이 변환기는 설정이 적용되지 않은 ObjectMapper를 사용하므로
+     * 북마크 목록이 엔티티 그대로(사용자, 비밀번호 해시 포함) 직렬화됩니다. 그래서 뒤에 추가하지 않고 같은 위치에서 바꿉니다.
+     * JSON 변환기보다 뒤에 있으므로 Accept 헤더가 없거나 *&#47;*인 요청에는 JSON이 그대로 선택됩니다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replaceOrAdd(converters, MappingJackson2CborHttpMessageConverter.class, new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        replaceOrAdd(converters, MappingJackson2SmileHttpMessageConverter.class, new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    }
+
+    private static void replaceOrAdd(List<HttpMessageConverter<?>> converters,
+                                     Class<?> converterType, HttpMessageConverter<?> replacement) {
+        boolean replaced = false;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converterType.isInstance(converters.get(i))) {
+                converters.set(i, replacement);
+                replaced = true;
+            }
+        }
+        if (!replaced) {
+            converters.add(replacement);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.marker.config;
+
+import com.example.marker.metrics.CountingStatementInspector;
+import com.example.marker.metrics.MethodTimingInterceptor;
+import com.example.marker.metrics.RequestTimings;
+import com.example.marker.metrics.ResponseBodyTimingInterceptor;
+import com.example.marker.service.BookmarkService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 서비스와 리포지토리 메서드의 실행 시간을 Micrometer Timer로 기록하도록 구성합니다.
+ * - marker.service: BookmarkService의 public 메서드 (캐시, 트랜잭션 처리 시간 포함)
+ * - marker.repository: 모든 Spring Data 리포지토리 메서드
+ * 캐시 메트릭은 CacheConfig, JWT 검증과 비밀번호 해싱 메트릭은 각 컴포넌트에서 기록합니다.
+ * 요청별 SQL 문 수는 Hibernate StatementInspector로 세고 StatementBudgetFilter에서 검사합니다.
+ * 요청 단계별 시간(Server-Timing)은 ServerTimingFilter에서 측정하며, 서비스와 리포지토리 단계는 위 Timer와 같은 인터셉터에서 더합니다.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    /**
+     * 응답 본문을 모두 쓴 시점에 직렬화 단계를 끝내는 인터셉터를 등록합니다.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ResponseBodyTimingInterceptor());
+    }
+
+    /**
+     * BookmarkService의 public 메서드를 감싸는 Advisor입니다.
+     * 캐시, 트랜잭션 처리 시간까지 포함되도록 가장 바깥쪽에서 실행합니다.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor bookmarkServiceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() == BookmarkService.class;
+            }
+        };
+        pointcut.setClassFilter(new RootClassFilter(BookmarkService.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut,
+                new MethodTimingInterceptor(meterRegistryProvider, "marker.service", "class", BookmarkService.class.getSimpleName(),
+                        RequestTimings.Stage.SERVICE));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * 리포지토리 프록시를 만들기 전에 실행 시간 기록 인터셉터를 추가합니다.
+     * Spring Boot의 기본 리포지토리 메트릭(spring.data.repository.invocations)은 호출마다 Tag 객체를 만들므로
+     * application.properties에서 끄고 이 인터셉터로 대신합니다.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new MethodTimingInterceptor(
+                                    meterRegistryProvider, "marker.repository", "repository",
+                                    repositoryInformation.getRepositoryInterface().getSimpleName(),
+                                    RequestTimings.Stage.REPOSITORY))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 문을 StatementCounter에 기록하도록 StatementInspector를 등록합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+    }
+}
@@ -6,6 +6,10 @@ import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -23,4 +27,37 @@ import org.springframework.context.annotation.Configuration;
         paramName = "Authorization" // HTTP 헤더 이름
 )
 public class OpenApiConfig {
+
+    /**
+     * JSON으로 주고받는 요청과 응답에 같은 스키마의 CBOR, Smile 형식을 함께 표시합니다.
+     * 응답 형식은 Accept 헤더, 요청 형식은 Content-Type 헤더로 선택하며, 지정하지 않으면 JSON을 사용합니다.
+     */
+    @Bean
+    public OpenApiCustomizer binaryMediaTypeCustomizer() {
+        return openApi -> {
+            if (openApi.getPaths() == null) {
+                return;
+            }
+            openApi.getPaths().values().forEach(pathItem -> pathItem.readOperations().forEach(operation -> {
+                if (operation.getRequestBody() != null) {
+                    addBinaryMediaTypes(operation.getRequestBody().getContent());
+                }
+                if (operation.getResponses() != null) {
+                    operation.getResponses().values().forEach(response -> addBinaryMediaTypes(response.getContent()));
+                }
+            }));
+        };
+    }
+
+    private static void addBinaryMediaTypes(Content content) {
+        if (content == null) {
+            return;
+        }
+        MediaType json = content.get(org.springframework.http.MediaType.APPLICATION_JSON_VALUE);
+        if (json == null) {
+            return;
+        }
+        content.putIfAbsent(org.springframework.http.MediaType.APPLICATION_CBOR_VALUE, json);
+        content.putIfAbsent(JacksonConfig.APPLICATION_SMILE_VALUE, json);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.marker.config;
+
+import com.example.marker.security.RegisteredEmailFilter;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.Filter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+
+/**
+ * 빠른 기동 모드(fast 프로필, spring.main.lazy-initialization=true)에서 지연 생성하지 않을 Bean을 지정합니다.
+ * 지연 생성하면 첫 요청이 DB 연결, Hibernate 초기화, 보안 필터 구성 비용을 떠안게 되므로,
+ * 요청 처리에 꼭 필요한 이 Bean들은 기동 중에 만들고 나머지(서비스, 컨트롤러 등)만 처음 사용할 때 만듭니다.
+ * 가입 이메일 필터(RegisteredEmailFilter)는 생성 시 가입된 모든 이메일을 읽으므로, 첫 회원가입 요청이 이 비용을 떠안지 않도록 기동 중에 만듭니다.
+ * 지연 생성을 사용하지 않는 기본 실행에서는 아무 효과가 없습니다.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter criticalBeansLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class,
+                EntityManagerFactory.class,
+                AbstractEntityManagerFactoryBean.class,
+                SecurityFilterChain.class,
+                Filter.class,
+                RegisteredEmailFilter.class);
+    }
+}
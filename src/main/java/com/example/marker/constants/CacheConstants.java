@@ -2,4 +2,11 @@ package com.example.marker.constants;
 
 public final class CacheConstants {
     public static final String BOOKMARK_CACHE = "bookmark";
-}
\ No newline at end of file
+
+    /**
+     * 북마크 캐시의 키를 생성합니다. @Cacheable 등에서 사용하는 SpEL 키("#userId + ':' + #bookmarkId")와 같은 형식입니다.
+     */
+    public static String bookmarkKey(Long userId, Long bookmarkId) {
+        return userId + ":" + bookmarkId;
+    }
+}
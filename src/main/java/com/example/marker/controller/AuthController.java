@@ -1,8 +1,11 @@
 package com.example.marker.controller;
 
+import com.example.marker.constants.JwtConstants;
 import com.example.marker.dto.AuthLoginRequest;
 import com.example.marker.dto.AuthLoginResponse;
+import com.example.marker.dto.AuthRefreshRequest;
 import com.example.marker.dto.AuthSignupRequest;
+import com.example.marker.security.JwtTokenProvider;
 import com.example.marker.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -46,13 +49,27 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "로그아웃", description = "현재 사용자를 로그아웃 처리합니다. (JWT는 클라이언트 측 토큰 삭제로 처리)")
+    @Operation(summary = "토큰 재발급", description = "Refresh 토큰으로 새 Access 토큰과 Refresh 토큰을 발급받습니다. 사용한 Refresh 토큰은 폐기됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재발급 성공, 새 토큰 반환"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (유효성 검증 실패)"),
+            @ApiResponse(responseCode = "401", description = "유효하지 않거나 만료 또는 폐기된 Refresh 토큰")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthLoginResponse> refresh(@Valid @RequestBody AuthRefreshRequest request) {
+        AuthLoginResponse response = authService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "로그아웃", description = "Authorization 헤더의 Access 토큰과 요청 본문의 Refresh 토큰을 폐기합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "로그아웃 성공")
     })
     @PostMapping("/logout")
-    public ResponseEntity<String> logout() {
-        authService.logout(); // 서버 측에서는 특별한 로직 없음
+    public ResponseEntity<String> logout(@RequestHeader(value = JwtConstants.AUTHORIZATION_HEADER, required = false) String authorization,
+                                         @RequestBody(required = false) AuthRefreshRequest request) {
+        String accessToken = JwtTokenProvider.resolveBearerToken(authorization);
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
         return ResponseEntity.ok("Logged out successfully.");
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,17 @@
 package com.example.marker.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import org.springframework.data.domain.Page;
+import java.util.Set;
 import org.springframework.data.domain.Pageable;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,12 +21,30 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.util.DigestUtils;
 
+import com.example.marker.cache.BookmarkWatermarks;
+import com.example.marker.dto.BookmarkBatchCreateRequest;
+import com.example.marker.dto.BookmarkBatchCreateResponse;
+import com.example.marker.dto.BookmarkBulkDeleteResponse;
 import com.example.marker.dto.BookmarkCreateRequest;
+import com.example.marker.dto.BookmarkField;
+import com.example.marker.dto.BookmarkImportResponse;
+import com.example.marker.dto.BookmarkPage;
 import com.example.marker.dto.BookmarkResponse;
 import com.example.marker.dto.BookmarkUpdateRequest;
+import com.example.marker.dto.ImportJobResponse;
+import com.example.marker.exception.UnsupportedFormatException;
+import com.example.marker.exporter.BookmarkExportFormat;
+import com.example.marker.service.BookmarkBatchService;
+import com.example.marker.service.BookmarkExportService;
+import com.example.marker.service.BookmarkImportService;
 import com.example.marker.service.BookmarkService;
+import com.example.marker.service.ImportJobService;
 
 import org.springdoc.core.annotations.ParameterObject;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,6 +54,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -38,6 +64,11 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/bookmarks")
 public class BookmarkController {
     private final BookmarkService bookmarkService;
+    private final BookmarkBatchService bookmarkBatchService;
+    private final BookmarkImportService bookmarkImportService;
+    private final BookmarkExportService bookmarkExportService;
+    private final ImportJobService importJobService;
+    private final BookmarkWatermarks bookmarkWatermarks;
 
     @Operation(summary = "북마크 생성", description = "새로운 북마크를 시스템에 등록합니다.", operationId = "bookmark-01")
     @ApiResponses({
@@ -52,22 +83,60 @@ public class BookmarkController {
         return ResponseEntity.created(URI.create("/bookmarks/" + response.getId())).body(response);
     }
 
+    @Operation(summary = "북마크 일괄 생성",
+            description = "여러 북마크를 한 번에 등록합니다. (최대 1000개) 항목별로 유효성을 검증하며, 유효하지 않은 항목은 건너뛰고 나머지를 생성합니다.",
+            operationId = "bookmark-06")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료, 항목별 결과 반환", content = @Content(schema = @Schema(implementation = BookmarkBatchCreateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (목록이 비어 있거나 최대 개수 초과)", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BookmarkBatchCreateResponse> createBookmarks(@Valid @RequestBody BookmarkBatchCreateRequest request) {
+        BookmarkBatchCreateResponse response = bookmarkBatchService.createBookmarks(request.getBookmarks());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "북마크 목록 조회",
-            description = "북마크 목록을 조회합니다. 'tag' 또는 'keyword' 쿼리 파라미터를 사용하여 필터링할 수 있습니다.",
+            description = "북마크 목록을 조회합니다. 'tag' 또는 'keyword' 쿼리 파라미터를 사용하여 필터링할 수 있습니다. "
+                    + "'fields'로 응답에 포함할 필드를 선택하면 해당 컬럼만 조회합니다. "
+                    + "응답의 ETag(약한 검증자)나 Last-Modified를 If-None-Match, If-Modified-Since로 보내면 변경이 없을 때 304를 반환합니다.",
             operationId = "bookmark-02")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BookmarkPage.class))),
+            @ApiResponse(responseCode = "304", description = "마지막 조회 이후 변경 없음", content = @Content),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 필드 이름", content = @Content),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content)
     })
     @GetMapping
-    public ResponseEntity<Page<BookmarkResponse>> getBookmarks(
+    public ResponseEntity<BookmarkPage> getBookmarks(
             @Parameter(description = "조회할 태그 이름 (선택)") @RequestParam(name = "tag", required = false) String tagName,
             @Parameter(description = "검색할 키워드 (제목 또는 URL, 선택)") @RequestParam(name = "keyword", required = false) String keyword,
-            @ParameterObject Pageable pageable
+            @Parameter(description = "응답에 포함할 필드 (쉼표로 구분, 선택). id, title, url, memo, createdAt, updatedAt, tags")
+            @RequestParam(name = "fields", required = false) String fields,
+            @ParameterObject Pageable pageable,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
-        Page<BookmarkResponse> responses;
-        if (tagName != null && !tagName.isBlank()) {
+        Set<BookmarkField> selectedFields = BookmarkField.parse(fields);
+        // 사용자별 변경 시각(기본 키 조회 한 번)만으로 304 여부를 판단하므로, 변경이 없으면 목록을 조회하지 않음
+        Long userId = bookmarkService.getCurrentUserId();
+        long lastModified = bookmarkWatermarks.lastModified(userId);
+        // 304 응답에도 적용되도록 먼저 설정 (기본값인 no-store 대신 재검증 후 재사용을 허용)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        // Accept에 따라 JSON, CBOR, Smile로 응답 형식이 달라지므로 캐시가 형식별로 구분하도록 알림
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        String etag = listETag(userId, lastModified, webRequest.getHeader(HttpHeaders.ACCEPT), tagName, keyword, selectedFields, pageable);
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+
+        BookmarkPage responses;
+        if (selectedFields != null) {
+            responses = bookmarkService.getBookmarkFields(tagName, keyword, selectedFields, pageable);
+        } else if (tagName != null && !tagName.isBlank()) {
             responses = bookmarkService.getBookmarksByTag(tagName, pageable);
         } else if (keyword != null && !keyword.isBlank()) {
             responses = bookmarkService.searchBookmarks(keyword, pageable);
@@ -77,6 +146,21 @@ public class BookmarkController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 목록 조회 응답의 약한 ETag를 만듭니다.
+     * 같은 사용자, 같은 변경 시각, 같은 Accept 헤더, 같은 조회 조건이면 같은 값이 나오며, 응답 본문을 직렬화하지 않고 계산합니다.
+     * 빈 tag/keyword는 목록 조회와 같은 결과를 내므로 지정하지 않은 것으로 취급합니다.
+     */
+    private String listETag(Long userId, long lastModified, String accept, String tagName, String keyword,
+                            Set<BookmarkField> fields, Pageable pageable) {
+        String query = userId + "|" + lastModified + "|" + (accept != null ? accept : "")
+                + "|" + (tagName != null && !tagName.isBlank() ? "tag=" + tagName : "")
+                + "|" + (keyword != null && !keyword.isBlank() ? "keyword=" + keyword : "")
+                + "|" + (fields != null ? fields : "")
+                + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize() + "|" + pageable.getSort();
+        return "W/\"" + DigestUtils.md5DigestAsHex(query.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
     @Operation(summary = "북마크 상세 조회", description = "지정된 ID의 북마크를 상세 조회합니다.", operationId = "bookmark-03")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BookmarkResponse.class))),
@@ -116,4 +200,101 @@ public class BookmarkController {
         bookmarkService.deleteBookmark(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "북마크 가져오기",
+            description = "브라우저에서 내보낸 북마크 HTML 파일 또는 JSON/NDJSON 파일에서 북마크를 가져옵니다. 폴더 이름은 태그가 됩니다. 'format'을 지정하지 않으면 파일 이름과 내용으로 형식을 추측합니다.",
+            operationId = "bookmark-08")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "가져오기 완료", content = @Content(schema = @Schema(implementation = BookmarkImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식이거나 파일 내용이 형식에 맞지 않음", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content),
+            @ApiResponse(responseCode = "413", description = "파일 크기 제한 초과", content = @Content)
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BookmarkImportResponse> importBookmarks(
+            @Parameter(description = "북마크 파일") @RequestPart("file") MultipartFile file,
+            @Parameter(description = "파일 형식 (html, json, ndjson)") @RequestParam(name = "format", required = false) String format
+    ) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            BookmarkImportResponse response = bookmarkImportService.importBookmarks(in, format, file.getOriginalFilename());
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    @Operation(summary = "북마크 가져오기 작업 등록",
+            description = "큰 북마크 파일을 백그라운드에서 가져오는 작업을 등록하고 작업 ID를 바로 반환합니다. 진행 상황은 작업 조회 API로 확인합니다.",
+            operationId = "bookmark-10")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 등록 완료", content = @Content(schema = @Schema(implementation = ImportJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content),
+            @ApiResponse(responseCode = "429", description = "진행 중인 작업 수 제한 초과", content = @Content)
+    })
+    @PostMapping(value = "/import/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> submitImportJob(
+            @Parameter(description = "북마크 파일") @RequestPart("file") MultipartFile file,
+            @Parameter(description = "파일 형식 (html, json, ndjson)") @RequestParam(name = "format", required = false) String format
+    ) throws IOException {
+        ImportJobResponse response = importJobService.submit(file, format);
+        return ResponseEntity.accepted().location(URI.create("/bookmarks/import/jobs/" + response.getId())).body(response);
+    }
+
+    @Operation(summary = "북마크 가져오기 작업 조회", description = "가져오기 작업의 상태와 진행 상황을 조회합니다.", operationId = "bookmark-11")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ImportJobResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음", content = @Content)
+    })
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(importJobService.getJob(jobId));
+    }
+
+    @Operation(summary = "북마크 내보내기",
+            description = "현재 사용자의 모든 북마크를 NDJSON, CSV 또는 브라우저에서 가져올 수 있는 HTML 파일로 내보냅니다. 결과는 파일로 내려받도록 스트리밍됩니다.",
+            operationId = "bookmark-09")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 성공", content = @Content),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content)
+    })
+    @GetMapping("/export")
+    public void exportBookmarks(
+            @Parameter(description = "파일 형식 (ndjson, csv, html)") @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse response
+    ) throws IOException {
+        BookmarkExportFormat exportFormat = BookmarkExportFormat.fromName(format)
+                .orElseThrow(() -> new UnsupportedFormatException("Unsupported export format: " + format));
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("bookmarks." + exportFormat.getExtension())
+                .build()
+                .toString());
+        bookmarkExportService.exportBookmarks(exportFormat, response.getOutputStream());
+    }
+
+    @Operation(summary = "북마크 일괄 삭제",
+            description = "ID 목록, 태그 또는 검색 키워드 중 하나의 조건에 일치하는 북마크를 한 번에 삭제합니다. 'dryRun=true'이면 삭제하지 않고 대상 개수만 반환합니다.",
+            operationId = "bookmark-07")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "삭제 완료 (또는 대상 개수 확인)", content = @Content(schema = @Schema(implementation = BookmarkBulkDeleteResponse.class))),
+            @ApiResponse(responseCode = "400", description = "조건을 지정하지 않았거나 둘 이상 지정함", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content)
+    })
+    @DeleteMapping
+    public ResponseEntity<BookmarkBulkDeleteResponse> deleteBookmarks(
+            @Parameter(description = "삭제할 북마크 ID 목록") @RequestParam(name = "ids", required = false) List<Long> ids,
+            @Parameter(description = "삭제할 북마크의 태그 이름") @RequestParam(name = "tag", required = false) String tagName,
+            @Parameter(description = "삭제할 북마크의 제목 또는 URL 키워드") @RequestParam(name = "keyword", required = false) String keyword,
+            @Parameter(description = "true이면 삭제하지 않고 대상 개수만 반환") @RequestParam(name = "dryRun", defaultValue = "false") boolean dryRun
+    ) {
+        BookmarkBulkDeleteResponse response = bookmarkBatchService.deleteBookmarks(ids, tagName, keyword, dryRun);
+        return ResponseEntity.ok(response);
+    }
 }
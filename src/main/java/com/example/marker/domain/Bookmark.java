@@ -13,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,10 +32,12 @@ import lombok.NoArgsConstructor;
 public class Bookmark extends BaseTimeEntity {
 
     /**
-     * 북마크의 고유 식별자(ID). 데이터베이스에서 자동으로 생성됩니다.
+     * 북마크의 고유 식별자(ID). 시퀀스에서 50개씩 미리 할당받아 사용합니다.
+     * (IDENTITY 방식은 INSERT마다 ID를 받아와야 하므로 JDBC 배치 INSERT를 사용할 수 없음)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookmark_seq_generator")
+    @SequenceGenerator(name = "bookmark_seq_generator", sequenceName = "bookmark_seq", allocationSize = 50)
     private Long id;
 
     /**
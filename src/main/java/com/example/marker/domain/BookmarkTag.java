@@ -14,7 +14,8 @@ import lombok.*;
 public class BookmarkTag extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookmark_tag_seq_generator")
+    @SequenceGenerator(name = "bookmark_tag_seq_generator", sequenceName = "bookmark_tag_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,103 @@
+package com.example.marker.domain;
+
+import com.example.marker.importer.BookmarkImportFormat;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 북마크 가져오기 작업을 나타내는 JPA 엔티티 클래스입니다.
+ * 청크를 저장할 때마다 같은 트랜잭션에서 진행 상황(processed)을 함께 갱신하므로,
+ * 서버가 중간에 종료되더라도 마지막으로 커밋된 청크 다음부터 이어서 처리할 수 있습니다.
+ * 업로드 파일은 작업을 받은 노드에만 있으므로, 이어서 처리하는 것도 그 노드(ownerNodeId)만 합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "import_job", indexes = @Index(name = "idx_import_job_status", columnList = "status"))
+public class ImportJob extends BaseTimeEntity {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED;
+
+        public boolean isActive() {
+            return this == QUEUED || this == RUNNING;
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private BookmarkImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    private String originalFilename;
+
+    /**
+     * 작업을 받아 업로드 파일을 보관하고 있는 노드의 ID. 기동 시 이 노드의 작업만 이어서 처리합니다.
+     * (이 컬럼이 추가되기 전에 등록된 작업은 null)
+     */
+    private String ownerNodeId;
+
+    /**
+     * 업로드된 파일을 보관한 임시(spool) 파일의 경로. 작업이 끝나면 파일을 삭제합니다.
+     */
+    @Column(nullable = false, length = 1024)
+    private String spoolPath;
+
+    /**
+     * 커밋된 청크까지 처리한 북마크 수 (다시 시작할 때 건너뛸 수)
+     */
+    private long processed;
+
+    private long created;
+
+    private long failed;
+
+    private String errorMessage;
+
+    @Builder
+    public ImportJob(Long userId, BookmarkImportFormat format, String originalFilename, String ownerNodeId, String spoolPath) {
+        this.userId = userId;
+        this.format = format;
+        this.originalFilename = originalFilename;
+        this.ownerNodeId = ownerNodeId;
+        this.spoolPath = spoolPath;
+        this.status = Status.QUEUED;
+    }
+
+    public void start() {
+        this.status = Status.RUNNING;
+    }
+
+    /**
+     * 저장한 청크의 결과를 반영합니다.
+     * @param size 청크의 북마크 수
+     * @param createdInChunk 그중 생성된 북마크 수
+     */
+    public void recordChunk(int size, int createdInChunk) {
+        this.processed += size;
+        this.created += createdInChunk;
+        this.failed += size - createdInChunk;
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = Status.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 255 ? errorMessage.substring(0, 255) : errorMessage;
+    }
+}
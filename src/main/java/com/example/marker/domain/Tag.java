@@ -19,7 +19,8 @@ import java.util.List;
 public class Tag extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_seq_generator")
+    @SequenceGenerator(name = "tag_seq_generator", sequenceName = "tag_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
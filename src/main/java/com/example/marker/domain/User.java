@@ -27,9 +27,25 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false)
     private String password;
 
+    /**
+     * 이 사용자의 북마크가 마지막으로 변경된 시각 (epoch milliseconds, 목록 조회의 ETag와 Last-Modified에 사용).
+     * UserRepository.touchBookmarksModifiedAt으로만 갱신하며, 엔티티를 저장할 때 이전 값으로 덮어쓰지 않도록 UPDATE에서 제외합니다.
+     */
+    @Column(updatable = false)
+    private Long bookmarksModifiedAt;
+
     @Builder
     public User(String email, String password) {
         this.email = email;
         this.password = password;
+        this.bookmarksModifiedAt = System.currentTimeMillis() / 1000 * 1000;
+    }
+
+    /**
+     * 비밀번호를 변경합니다.
+     * @param encodedPassword 암호화된 새 비밀번호
+     */
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
     }
-}
\ No newline at end of file
+}
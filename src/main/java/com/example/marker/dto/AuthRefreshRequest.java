@@ -0,0 +1,15 @@
+package com.example.marker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AuthRefreshRequest {
+
+    @Schema(description = "로그인 또는 이전 재발급 시 받은 Refresh 토큰", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
+    @NotBlank(message = "Refresh 토큰은 필수입니다.")
+    private String refreshToken;
+}
@@ -0,0 +1,29 @@
+package com.example.marker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 북마크 일괄 생성을 위한 데이터 전송 객체(DTO)입니다.
+ * 각 항목의 유효성 검증은 항목별로 수행되어, 일부 항목이 유효하지 않아도 나머지 항목은 생성됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookmarkBatchCreateRequest {
+
+    public static final int MAX_SIZE = 1000;
+
+    @Schema(description = "생성할 북마크 목록 (최대 1000개)")
+    @NotEmpty(message = "생성할 북마크 목록은 비어 있을 수 없습니다.")
+    @Size(max = MAX_SIZE, message = "한 번에 생성할 수 있는 북마크는 최대 1000개입니다.")
+    private List<BookmarkCreateRequest> bookmarks;
+}
@@ -0,0 +1,52 @@
+package com.example.marker.dto;
+
+import com.example.marker.exception.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 북마크 일괄 생성 결과를 담는 데이터 전송 객체(DTO)입니다.
+ * 요청 목록과 같은 순서로 항목별 결과를 반환합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookmarkBatchCreateResponse {
+
+    @Schema(description = "생성된 북마크 수")
+    private final int created;
+
+    @Schema(description = "유효성 검증에 실패한 북마크 수")
+    private final int failed;
+
+    @Schema(description = "항목별 결과 (요청 순서와 동일)")
+    private final List<ItemResult> results;
+
+    public enum Status {
+        CREATED, INVALID
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+        @Schema(description = "요청 목록에서의 위치 (0부터 시작)")
+        private final int index;
+        private final Status status;
+        @Schema(description = "생성된 북마크 ID (생성된 경우)")
+        private final Long id;
+        @Schema(description = "유효성 검증 오류 (실패한 경우)")
+        private final List<ErrorResponse.FieldError> errors;
+
+        public static ItemResult created(int index, Long id) {
+            return new ItemResult(index, Status.CREATED, id, null);
+        }
+
+        public static ItemResult invalid(int index, List<ErrorResponse.FieldError> errors) {
+            return new ItemResult(index, Status.INVALID, null, errors);
+        }
+    }
+}
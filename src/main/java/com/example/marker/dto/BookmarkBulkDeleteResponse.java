@@ -0,0 +1,22 @@
+package com.example.marker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 북마크 일괄 삭제 결과를 담는 데이터 전송 객체(DTO)입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookmarkBulkDeleteResponse {
+
+    @Schema(description = "실제로 삭제하지 않고 대상 개수만 확인했는지 여부")
+    private final boolean dryRun;
+
+    @Schema(description = "조건에 일치하는 (삭제 대상) 북마크 수")
+    private final int matched;
+
+    @Schema(description = "삭제된 북마크 수 (dryRun이면 0)")
+    private final int deleted;
+}
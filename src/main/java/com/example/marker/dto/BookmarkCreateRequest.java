@@ -4,6 +4,7 @@ import com.example.marker.domain.Bookmark;
 import com.example.marker.domain.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -22,14 +23,17 @@ public class BookmarkCreateRequest {
 
     @Schema(description = "북마크 제목", example = "크래프톤")
     @NotBlank(message = "제목은 필수입니다.")
+    @Size(max = 255, message = "제목은 255자 이하여야 합니다.")
     private String title;
 
     @Schema(description = "북마크 URL", example = "https://www.krafton.com/")
     @NotBlank(message = "URL은 필수입니다.")
+    @Size(max = 255, message = "URL은 255자 이하여야 합니다.")
     @URL(message = "유효하지 않은 URL 형식입니다.")
     private String url;
 
     @Schema(description = "북마크 메모", example = "한국 게임 사이트")
+    @Size(max = 255, message = "메모는 255자 이하여야 합니다.")
     private String memo;
 
     @Schema(description = "북마크에 추가할 태그 목록", example = "[\"게임\", \"IT\"]")
@@ -0,0 +1,22 @@
+package com.example.marker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 북마크 내보내기 쿼리의 결과 한 행입니다. (북마크와 태그 이름의 조인 결과)
+ * 엔티티가 아닌 값만 담으므로 영속성 컨텍스트에 쌓이지 않습니다.
+ * 태그가 여러 개인 북마크는 태그 수만큼 행이 만들어지며, 태그가 없으면 tagName이 null입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookmarkExportRow {
+    private final Long id;
+    private final String title;
+    private final String url;
+    private final String memo;
+    private final LocalDateTime createdAt;
+    private final String tagName;
+}
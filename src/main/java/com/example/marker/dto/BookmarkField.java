@@ -0,0 +1,60 @@
+package com.example.marker.dto;
+
+import com.example.marker.exception.InvalidFieldSelectionException;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 북마크 목록 조회에서 ?fields= 파라미터로 선택할 수 있는 응답 필드입니다.
+ * 선택한 필드에 해당하는 컬럼만 조회하며, 태그를 선택하지 않으면 태그 테이블을 조회하지 않습니다.
+ */
+@Getter
+public enum BookmarkField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    URL("url", "url"),
+    MEMO("memo", "memo"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    TAGS("tags", null);
+
+    private final String jsonName; // 응답에서 사용하는 필드 이름
+    private final String attribute; // Bookmark 엔티티의 속성 이름 (컬럼이 아닌 필드는 null)
+
+    BookmarkField(String jsonName, String attribute) {
+        this.jsonName = jsonName;
+        this.attribute = attribute;
+    }
+
+    /**
+     * 쉼표로 구분된 필드 이름 목록을 읽습니다. (예: "id,title,url,tags")
+     * @param fields 필드 이름 목록
+     * @return 선택한 필드 집합. 지정하지 않았으면 null
+     * @throws InvalidFieldSelectionException 알 수 없는 필드 이름이 있는 경우
+     */
+    public static Set<BookmarkField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<BookmarkField> selected = EnumSet.noneOf(BookmarkField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromJsonName(trimmed));
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+
+    private static BookmarkField fromJsonName(String name) {
+        for (BookmarkField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldSelectionException(name);
+    }
+}
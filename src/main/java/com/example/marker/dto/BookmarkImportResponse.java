@@ -0,0 +1,26 @@
+package com.example.marker.dto;
+
+import com.example.marker.importer.BookmarkImportFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 북마크 가져오기 결과를 담는 데이터 전송 객체(DTO)입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookmarkImportResponse {
+
+    @Schema(description = "파일 형식")
+    private final BookmarkImportFormat format;
+
+    @Schema(description = "파일에서 읽은 북마크 수")
+    private final int total;
+
+    @Schema(description = "생성된 북마크 수")
+    private final int created;
+
+    @Schema(description = "유효성 검증에 실패해 건너뛴 북마크 수")
+    private final int failed;
+}
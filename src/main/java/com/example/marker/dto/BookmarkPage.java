@@ -0,0 +1,68 @@
+package com.example.marker.dto;
+
+import com.example.marker.domain.Bookmark;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 북마크 목록 조회 응답의 페이지 형식입니다.
+ * Spring의 Page를 그대로 직렬화하면 pageable, sort 등 클라이언트가 쓰지 않는 정보가 함께 나가므로,
+ * 목록과 페이지 번호, 크기, 전체 개수만 담는 고정된 형식으로 응답합니다.
+ * 북마크는 엔티티로 보관하며, {@link BookmarkPageSerializer}가 응답 DTO를 만들지 않고 필드를 바로 출력합니다.
+ * ?fields=로 일부 필드만 선택한 경우에는 {@link BookmarkProjection}을 보관하고 선택한 필드만 출력합니다.
+ */
+@Getter
+public class BookmarkPage {
+
+    @ArraySchema(schema = @Schema(implementation = BookmarkResponse.class))
+    private final List<?> content; // Bookmark 또는 BookmarkProjection
+
+    @Schema(hidden = true)
+    private final Set<BookmarkField> fields; // 응답에 출력할 필드
+
+    @Schema(description = "현재 페이지 번호 (0부터 시작)")
+    private final int page;
+
+    @Schema(description = "페이지 크기")
+    private final int size;
+
+    @Schema(description = "전체 북마크 수")
+    private final long totalElements;
+
+    @Schema(description = "전체 페이지 수")
+    private final int totalPages;
+
+    private BookmarkPage(Page<?> bookmarks, Set<BookmarkField> fields) {
+        this.content = bookmarks.getContent();
+        this.fields = fields;
+        this.page = bookmarks.getNumber();
+        this.size = bookmarks.getSize();
+        this.totalElements = bookmarks.getTotalElements();
+        this.totalPages = bookmarks.getTotalPages();
+    }
+
+    /**
+     * 조회한 북마크 페이지로 응답을 생성합니다.
+     * @param bookmarks 조회한 북마크 페이지
+     * @return 생성된 BookmarkPage 객체
+     */
+    public static BookmarkPage from(Page<Bookmark> bookmarks) {
+        return new BookmarkPage(bookmarks, EnumSet.allOf(BookmarkField.class));
+    }
+
+    /**
+     * 일부 필드만 조회한 북마크 페이지로 응답을 생성합니다.
+     * @param bookmarks 선택한 필드만 채워진 북마크 페이지
+     * @param fields 응답에 출력할 필드
+     * @return 생성된 BookmarkPage 객체
+     */
+    public static BookmarkPage from(Page<BookmarkProjection> bookmarks, Set<BookmarkField> fields) {
+        return new BookmarkPage(bookmarks, fields);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.marker.dto;
+
+import com.example.marker.domain.Bookmark;
+import com.example.marker.domain.BookmarkTag;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link BookmarkPage}를 JSON으로 출력하는 직렬화기입니다.
+ * 북마크마다 응답 DTO를 만들거나 리플렉션으로 필드를 찾지 않고, 엔티티의 값을 JsonGenerator에 바로 씁니다.
+ * 필드 이름은 미리 인코딩해 두며, 출력 형식은 {@link BookmarkResponse}와 같습니다.
+ * 일부 필드만 조회한 {@link BookmarkProjection}은 선택한 필드만 출력합니다.
+ * compactDates가 true이면 날짜를 ISO 문자열 대신 epoch milliseconds 숫자로 출력합니다.
+ */
+public class BookmarkPageSerializer extends StdSerializer<BookmarkPage> {
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString PAGE = new SerializedString("page");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString URL = new SerializedString("url");
+    private static final SerializableString MEMO = new SerializedString("memo");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString TAGS = new SerializedString("tags");
+
+    private final boolean compactDates;
+    private final ZoneId zoneId;
+
+    public BookmarkPageSerializer(boolean compactDates) {
+        super(BookmarkPage.class);
+        this.compactDates = compactDates;
+        this.zoneId = ZoneId.systemDefault();
+    }
+
+    @Override
+    public void serialize(BookmarkPage page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(CONTENT);
+        gen.writeStartArray();
+        for (Object item : page.getContent()) {
+            if (item instanceof Bookmark bookmark) {
+                writeBookmark(bookmark, gen);
+            } else {
+                writeProjection((BookmarkProjection) item, page.getFields(), gen);
+            }
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(PAGE);
+        gen.writeNumber(page.getPage());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.getTotalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(page.getTotalPages());
+        gen.writeEndObject();
+    }
+
+    private void writeBookmark(Bookmark bookmark, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(ID);
+        gen.writeNumber(bookmark.getId());
+        writeString(gen, TITLE, bookmark.getTitle());
+        writeString(gen, URL, bookmark.getUrl());
+        writeString(gen, MEMO, bookmark.getMemo());
+        writeDateTime(gen, CREATED_AT, bookmark.getCreatedAt());
+        writeDateTime(gen, UPDATED_AT, bookmark.getUpdatedAt());
+        gen.writeFieldName(TAGS);
+        gen.writeStartArray();
+        for (BookmarkTag bookmarkTag : bookmark.getBookmarkTags()) {
+            gen.writeString(bookmarkTag.getTag().getName());
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private void writeProjection(BookmarkProjection bookmark, Set<BookmarkField> fields, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        if (fields.contains(BookmarkField.ID)) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(bookmark.getId());
+        }
+        if (fields.contains(BookmarkField.TITLE)) {
+            writeString(gen, TITLE, bookmark.getTitle());
+        }
+        if (fields.contains(BookmarkField.URL)) {
+            writeString(gen, URL, bookmark.getUrl());
+        }
+        if (fields.contains(BookmarkField.MEMO)) {
+            writeString(gen, MEMO, bookmark.getMemo());
+        }
+        if (fields.contains(BookmarkField.CREATED_AT)) {
+            writeDateTime(gen, CREATED_AT, bookmark.getCreatedAt());
+        }
+        if (fields.contains(BookmarkField.UPDATED_AT)) {
+            writeDateTime(gen, UPDATED_AT, bookmark.getUpdatedAt());
+        }
+        if (fields.contains(BookmarkField.TAGS)) {
+            gen.writeFieldName(TAGS);
+            gen.writeStartArray();
+            List<String> tags = bookmark.getTags();
+            for (String tag : tags) {
+                gen.writeString(tag);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    private void writeDateTime(JsonGenerator gen, SerializableString name, LocalDateTime value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else if (compactDates) {
+            gen.writeNumber(value.atZone(zoneId).toInstant().toEpochMilli());
+        } else {
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+    }
+}
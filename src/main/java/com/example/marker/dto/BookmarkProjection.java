@@ -0,0 +1,23 @@
+package com.example.marker.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ?fields=로 일부 필드만 선택한 북마크 목록 조회 결과의 한 행입니다.
+ * 선택하지 않은 필드는 조회하지 않으므로 null이며, 응답에도 포함하지 않습니다.
+ */
+@Getter
+@Builder
+public class BookmarkProjection {
+    private final Long id;
+    private final String title;
+    private final String url;
+    private final String memo;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<String> tags;
+}
@@ -0,0 +1,61 @@
+package com.example.marker.dto;
+
+import com.example.marker.domain.ImportJob;
+import com.example.marker.importer.BookmarkImportFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 북마크 가져오기 작업의 상태를 담는 데이터 전송 객체(DTO)입니다.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobResponse {
+
+    @Schema(description = "작업 ID")
+    private final Long id;
+
+    @Schema(description = "작업 상태 (QUEUED, RUNNING, COMPLETED, FAILED)")
+    private final ImportJob.Status status;
+
+    @Schema(description = "파일 형식")
+    private final BookmarkImportFormat format;
+
+    @Schema(description = "업로드한 파일 이름")
+    private final String filename;
+
+    @Schema(description = "지금까지 처리한 북마크 수")
+    private final long processed;
+
+    @Schema(description = "생성된 북마크 수")
+    private final long created;
+
+    @Schema(description = "유효성 검증에 실패해 건너뛴 북마크 수")
+    private final long failed;
+
+    @Schema(description = "실패한 경우 그 이유")
+    private final String errorMessage;
+
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public static ImportJobResponse from(ImportJob job) {
+        return ImportJobResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .format(job.getFormat())
+                .filename(job.getOriginalFilename())
+                .processed(job.getProcessed())
+                .created(job.getCreated())
+                .failed(job.getFailed())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
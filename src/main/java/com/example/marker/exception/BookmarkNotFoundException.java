@@ -1,8 +1,13 @@
 package com.example.marker.exception;
 
+/**
+ * 요청한 북마크가 없을 때 발생하는 예외입니다.
+ * 존재하지 않는 ID를 반복해서 조회하는 요청에도 자주 발생하고 GlobalExceptionHandler에서 404 응답으로 바뀌므로,
+ * 스택 트레이스를 만들지 않습니다. (스택 트레이스 수집 비용이 조회 쿼리보다 클 수 있음)
+ */
 public class BookmarkNotFoundException extends RuntimeException {
 
     public BookmarkNotFoundException(Long id) {
-        super("Bookmark not found with id: " + id);
+        super("Bookmark not found with id: " + id, null, false, false);
     }
-}
\ No newline at end of file
+}
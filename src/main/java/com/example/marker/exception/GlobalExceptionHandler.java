@@ -1,13 +1,19 @@
 package com.example.marker.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -16,6 +22,14 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+    // 예외 타입별 카운터 (요청마다 Meter를 조회하지 않도록 보관)
+    private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     /**
      * BookmarkNotFoundException이 발생했을 때 처리하는 핸들러입니다.
      * HTTP 404 Not Found 상태 코드와 에러 메시지를 담은 응답을 반환합니다.
@@ -23,11 +37,29 @@ public class GlobalExceptionHandler {
      * @return 에러 정보를 담은 ResponseEntity
      */
     @ExceptionHandler(BookmarkNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleBookmarkNotFoundException(BookmarkNotFoundException ex, WebRequest request) {
+    public ResponseEntity<ErrorResponse> handleBookmarkNotFoundException(BookmarkNotFoundException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.NOT_FOUND);
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.NOT_FOUND,
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * ImportJobNotFoundException이 발생했을 때 처리하는 핸들러입니다.
+     * HTTP 404 Not Found 상태 코드와 에러 메시지를 담은 응답을 반환합니다.
+     * @param ex 발생한 예외
+     * @return 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImportJobNotFoundException(ImportJobNotFoundException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.NOT_FOUND);
         ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.NOT_FOUND,
                 ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
+                request.getRequestURI()
         );
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
@@ -40,7 +72,8 @@ public class GlobalExceptionHandler {
      * @return 에러 정보를 담은 ResponseEntity
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, WebRequest request) {
+    public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         List<ErrorResponse.FieldError> fieldErrors = ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> ErrorResponse.FieldError.builder()
                         .field(error.getField())
@@ -49,10 +82,82 @@ public class GlobalExceptionHandler {
                         .build())
                 .collect(Collectors.toList());
 
-        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.BAD_REQUEST, "입력 값에 대한 유효성 검증에 실패했습니다.", request.getDescription(false).replace("uri=", ""), fieldErrors);
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.BAD_REQUEST, "입력 값에 대한 유효성 검증에 실패했습니다.", request.getRequestURI(), fieldErrors);
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * InvalidBulkDeleteCriteriaException이 발생했을 때 처리하는 핸들러입니다.
+     * HTTP 400 Bad Request 상태 코드와 에러 메시지를 담은 응답을 반환합니다.
+     * @param ex 발생한 예외
+     * @param request 웹 요청 정보
+     * @return 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler(InvalidBulkDeleteCriteriaException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBulkDeleteCriteriaException(InvalidBulkDeleteCriteriaException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.BAD_REQUEST);
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST, // 400 Bad Request
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * InvalidFieldSelectionException이 발생했을 때 처리하는 핸들러입니다.
+     * HTTP 400 Bad Request 상태 코드와 에러 메시지를 담은 응답을 반환합니다.
+     * @param ex 발생한 예외
+     * @param request 웹 요청 정보
+     * @return 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFieldSelectionException(InvalidFieldSelectionException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.BAD_REQUEST);
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST, // 400 Bad Request
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * UnsupportedFormatException이 발생했을 때 처리하는 핸들러입니다.
+     * HTTP 400 Bad Request 상태 코드와 에러 메시지를 담은 응답을 반환합니다.
+     * @param ex 발생한 예외
+     * @param request 웹 요청 정보
+     * @return 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler(UnsupportedFormatException.class)
+    public ResponseEntity<ErrorResponse> handleUnsupportedFormatException(UnsupportedFormatException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.BAD_REQUEST);
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST, // 400 Bad Request
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 업로드 파일이 크기 제한을 넘었을 때(MaxUploadSizeExceededException) 처리하는 핸들러입니다.
+     * HTTP 413 Payload Too Large 상태 코드와 에러 메시지를 담은 응답을 반환합니다.
+     * @param ex 발생한 예외
+     * @param request 웹 요청 정보
+     * @return 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.PAYLOAD_TOO_LARGE);
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.PAYLOAD_TOO_LARGE, // 413 Payload Too Large
+                "Uploaded file exceeds the maximum allowed size.",
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
     /**
      * UserAlreadyExistsException이 발생했을 때 처리하는 핸들러입니다.
      * HTTP 409 Conflict 상태 코드와 에러 메시지를 담은 응답을 반환합니다.
@@ -61,11 +166,12 @@ public class GlobalExceptionHandler {
      * @return 에러 정보를 담은 ResponseEntity
      */
     @ExceptionHandler(UserAlreadyExistsException.class)
-    public ResponseEntity<ErrorResponse> handleUserAlreadyExistsException(UserAlreadyExistsException ex, WebRequest request) {
+    public ResponseEntity<ErrorResponse> handleUserAlreadyExistsException(UserAlreadyExistsException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.CONFLICT);
         ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.CONFLICT, // 409 Conflict
                 ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
+                request.getRequestURI()
         );
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
@@ -78,8 +184,23 @@ public class GlobalExceptionHandler {
      * @return 에러 정보를 담은 ResponseEntity
      */
     @ExceptionHandler(InvalidCredentialsException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidCredentialsException(InvalidCredentialsException ex, WebRequest request) {
-        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.UNAUTHORIZED, ex.getMessage(), request.getDescription(false).replace("uri=", ""));
+    public ResponseEntity<ErrorResponse> handleInvalidCredentialsException(InvalidCredentialsException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.UNAUTHORIZED);
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.UNAUTHORIZED, ex.getMessage(), request.getRequestURI());
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     * InvalidTokenException이 발생했을 때 처리하는 핸들러입니다.
+     * HTTP 401 Unauthorized 상태 코드와 에러 메시지를 담은 응답을 반환합니다.
+     * @param ex 발생한 예외
+     * @param request 웹 요청 정보
+     * @return 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTokenException(InvalidTokenException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.UNAUTHORIZED);
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.UNAUTHORIZED, ex.getMessage(), request.getRequestURI());
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
     }
 
@@ -91,11 +212,41 @@ public class GlobalExceptionHandler {
      * @return 에러 정보를 담은 ResponseEntity
      */
     @ExceptionHandler(UnauthorizedBookmarkAccessException.class)
-    public ResponseEntity<ErrorResponse> handleUnauthorizedBookmarkAccessException(UnauthorizedBookmarkAccessException ex, WebRequest request) {
+    public ResponseEntity<ErrorResponse> handleUnauthorizedBookmarkAccessException(UnauthorizedBookmarkAccessException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.FORBIDDEN);
         ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.FORBIDDEN,
                 ex.getMessage(),
-                request.getDescription(false).replace("uri=", ""));
+                request.getRequestURI());
         return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
     }
-}
\ No newline at end of file
+
+    /**
+     * TooManyRequestsException이 발생했을 때 처리하는 핸들러입니다.
+     * HTTP 429 Too Many Requests 상태 코드와 함께, 다시 시도할 수 있는 시간을 Retry-After 헤더로 알려줍니다.
+     * @param ex 발생한 예외
+     * @param request 웹 요청 정보
+     * @return 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.TOO_MANY_REQUESTS);
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * 처리한 예외를 타입과 응답 상태별로 집계합니다. (marker.errors)
+     * 존재하지 않거나 다른 사용자의 북마크를 반복해서 조회하는 요청 등을 오류 유형별 비율로 확인할 수 있습니다.
+     */
+    private void countError(Exception ex, HttpStatus status) {
+        errorCounters.computeIfAbsent(ex.getClass(), type -> Counter.builder("marker.errors")
+                        .description("Handled exceptions by type and response status")
+                        .tag("exception", type.getSimpleName())
+                        .tag("status", String.valueOf(status.value()))
+                        .register(meterRegistry))
+                .increment();
+    }
+}
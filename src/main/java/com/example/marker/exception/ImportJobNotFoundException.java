@@ -0,0 +1,10 @@
+package com.example.marker.exception;
+
+/**
+ * 요청한 가져오기 작업이 없을 때 발생하는 예외입니다. 404 응답으로 바뀌므로 스택 트레이스를 만들지 않습니다.
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(Long id) {
+        super("Import job not found with id: " + id, null, false, false);
+    }
+}
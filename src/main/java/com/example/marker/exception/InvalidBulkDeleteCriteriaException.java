@@ -0,0 +1,7 @@
+package com.example.marker.exception;
+
+public class InvalidBulkDeleteCriteriaException extends RuntimeException {
+    public InvalidBulkDeleteCriteriaException() {
+        super("Exactly one of 'ids', 'tag' or 'keyword' must be specified.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.marker.exception;
+
+public class InvalidFieldSelectionException extends RuntimeException {
+    public InvalidFieldSelectionException(String field) {
+        super("Unknown field: '" + field + "'. Supported fields: id, title, url, memo, createdAt, updatedAt, tags.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.marker.exception;
+
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException() {
+        super("Invalid or expired token.");
+    }
+}
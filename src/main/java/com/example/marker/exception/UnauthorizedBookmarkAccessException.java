@@ -3,9 +3,14 @@ package com.example.marker.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * 다른 사용자의 북마크에 접근할 때 발생하는 예외입니다.
+ * 다른 사용자의 ID를 대입해 보는 요청에도 자주 발생하고 GlobalExceptionHandler에서 403 응답으로 바뀌므로,
+ * 스택 트레이스를 만들지 않습니다.
+ */
 @ResponseStatus(HttpStatus.FORBIDDEN) // 403 Forbidden
 public class UnauthorizedBookmarkAccessException extends RuntimeException {
     public UnauthorizedBookmarkAccessException(Long bookmarkId, Long userId) {
-        super("User with ID " + userId + " is not authorized to access bookmark with ID " + bookmarkId);
+        super("User with ID " + userId + " is not authorized to access bookmark with ID " + bookmarkId, null, false, false);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.example.marker.exporter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 내보내기(export)를 지원하는 북마크 파일 형식입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BookmarkExportFormat {
+
+    /** 한 줄에 북마크 하나인 JSON (가져오기 API로 다시 가져올 수 있음) */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** 스프레드시트에서 열 수 있는 CSV (RFC 4180) */
+    CSV("text/csv", "csv"),
+
+    /** 브라우저에서 가져올 수 있는 Netscape 북마크 HTML */
+    HTML("text/html", "html");
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * 형식 이름(ndjson, csv, html)에 해당하는 형식을 찾습니다.
+     * @param name 형식 이름 (대소문자 무시)
+     * @return 해당하는 형식, 없으면 빈 Optional
+     */
+    public static Optional<BookmarkExportFormat> fromName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "ndjson", "jsonl" -> Optional.of(NDJSON);
+            case "csv" -> Optional.of(CSV);
+            case "html", "htm" -> Optional.of(HTML);
+            default -> Optional.empty();
+        };
+    }
+}
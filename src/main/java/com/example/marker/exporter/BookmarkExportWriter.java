@@ -0,0 +1,22 @@
+package com.example.marker.exporter;
+
+import java.io.IOException;
+
+/**
+ * 북마크를 하나씩 출력 스트림에 쓰는 writer입니다.
+ * 북마크를 모아 두지 않고 바로 쓰므로 북마크 수와 관계없이 일정한 메모리로 동작합니다.
+ */
+public interface BookmarkExportWriter {
+
+    /**
+     * 첫 북마크를 쓰기 전에 머리말(헤더)을 씁니다.
+     */
+    void begin() throws IOException;
+
+    void write(ExportedBookmark bookmark) throws IOException;
+
+    /**
+     * 마지막 북마크를 쓴 뒤 꼬리말을 쓰고 버퍼를 비웁니다. 출력 스트림은 닫지 않습니다.
+     */
+    void end() throws IOException;
+}
@@ -0,0 +1,70 @@
+package com.example.marker.exporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 북마크를 RFC 4180 형식의 CSV로 씁니다. 태그는 쉼표로 이어 하나의 열에 씁니다.
+ * 스프레드시트에서 수식으로 해석될 수 있는 값(=, +, -, @로 시작)은 앞에 작은따옴표를 붙여 씁니다.
+ */
+public class CsvBookmarkWriter implements BookmarkExportWriter {
+
+    private static final String HEADER = "id,title,url,memo,tags,createdAt";
+
+    private final Writer writer;
+
+    public CsvBookmarkWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void begin() throws IOException {
+        // 스프레드시트가 UTF-8로 인식하도록 BOM을 씀
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(ExportedBookmark bookmark) throws IOException {
+        writer.write(String.valueOf(bookmark.getId()));
+        writer.write(',');
+        writeField(bookmark.getTitle());
+        writer.write(',');
+        writeField(bookmark.getUrl());
+        writer.write(',');
+        writeField(bookmark.getMemo());
+        writer.write(',');
+        writeField(String.join(",", bookmark.getTags()));
+        writer.write(',');
+        writeField(bookmark.getCreatedAt() == null ? null : bookmark.getCreatedAt().toString());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void end() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
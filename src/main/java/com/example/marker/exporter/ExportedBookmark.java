@@ -0,0 +1,21 @@
+package com.example.marker.exporter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내보낼 북마크 하나입니다. (태그 이름을 모은 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class ExportedBookmark {
+    private final Long id;
+    private final String title;
+    private final String url;
+    private final String memo;
+    private final LocalDateTime createdAt;
+    private final List<String> tags;
+}
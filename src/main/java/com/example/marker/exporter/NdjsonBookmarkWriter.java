@@ -0,0 +1,51 @@
+package com.example.marker.exporter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 북마크를 한 줄에 하나씩 JSON 객체로 씁니다. 필드 이름은 가져오기 형식과 같습니다.
+ */
+public class NdjsonBookmarkWriter implements BookmarkExportWriter {
+
+    private final JsonGenerator generator;
+
+    public NdjsonBookmarkWriter(JsonFactory jsonFactory, OutputStream out) throws IOException {
+        this.generator = jsonFactory.createGenerator(out);
+        // 출력 스트림은 호출하는 쪽에서 닫음
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void begin() {
+    }
+
+    @Override
+    public void write(ExportedBookmark bookmark) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", bookmark.getId());
+        generator.writeStringField("title", bookmark.getTitle());
+        generator.writeStringField("url", bookmark.getUrl());
+        if (bookmark.getMemo() != null) {
+            generator.writeStringField("memo", bookmark.getMemo());
+        }
+        generator.writeArrayFieldStart("tags");
+        for (String tag : bookmark.getTags()) {
+            generator.writeString(tag);
+        }
+        generator.writeEndArray();
+        if (bookmark.getCreatedAt() != null) {
+            generator.writeStringField("createdAt", bookmark.getCreatedAt().toString());
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void end() throws IOException {
+        generator.flush();
+    }
+}
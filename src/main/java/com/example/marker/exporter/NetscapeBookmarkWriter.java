@@ -0,0 +1,80 @@
+package com.example.marker.exporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+
+/**
+ * 북마크를 브라우저에서 가져올 수 있는 Netscape 북마크 HTML 형식으로 씁니다.
+ * 폴더 없이 한 목록으로 쓰며, 태그는 TAGS 속성에, 메모는 &lt;DD&gt;에 씁니다.
+ */
+public class NetscapeBookmarkWriter implements BookmarkExportWriter {
+
+    private final Writer writer;
+
+    public NetscapeBookmarkWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void begin() throws IOException {
+        writer.write("<!DOCTYPE NETSCAPE-Bookmark-file-1>\n");
+        writer.write("<META HTTP-EQUIV=\"Content-Type\" CONTENT=\"text/html; charset=UTF-8\">\n");
+        writer.write("<TITLE>Bookmarks</TITLE>\n");
+        writer.write("<H1>Bookmarks</H1>\n");
+        writer.write("<DL><p>\n");
+    }
+
+    @Override
+    public void write(ExportedBookmark bookmark) throws IOException {
+        writer.write("    <DT><A HREF=\"");
+        writer.write(escape(bookmark.getUrl()));
+        writer.write('"');
+        if (bookmark.getCreatedAt() != null) {
+            writer.write(" ADD_DATE=\"");
+            writer.write(String.valueOf(bookmark.getCreatedAt().atZone(ZoneId.systemDefault()).toEpochSecond()));
+            writer.write('"');
+        }
+        if (!bookmark.getTags().isEmpty()) {
+            writer.write(" TAGS=\"");
+            writer.write(escape(String.join(",", bookmark.getTags())));
+            writer.write('"');
+        }
+        writer.write('>');
+        writer.write(escape(bookmark.getTitle()));
+        writer.write("</A>\n");
+        if (bookmark.getMemo() != null && !bookmark.getMemo().isEmpty()) {
+            writer.write("    <DD>");
+            writer.write(escape(bookmark.getMemo()));
+            writer.write('\n');
+        }
+    }
+
+    @Override
+    public void end() throws IOException {
+        writer.write("</DL><p>\n");
+        writer.flush();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
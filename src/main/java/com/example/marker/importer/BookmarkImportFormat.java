@@ -0,0 +1,45 @@
+package com.example.marker.importer;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 가져오기(import)를 지원하는 북마크 파일 형식입니다.
+ */
+public enum BookmarkImportFormat {
+
+    /** 브라우저가 내보내는 Netscape 북마크 HTML 형식 */
+    HTML,
+
+    /** 북마크 객체의 JSON 배열 또는 한 줄에 객체 하나인 NDJSON 형식 */
+    JSON;
+
+    /**
+     * 형식 이름(html, json, ndjson)에 해당하는 형식을 찾습니다.
+     * @param name 형식 이름 (대소문자 무시)
+     * @return 해당하는 형식, 없으면 빈 Optional
+     */
+    public static Optional<BookmarkImportFormat> fromName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "html", "htm" -> Optional.of(HTML);
+            case "json", "ndjson", "jsonl" -> Optional.of(JSON);
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * 파일 이름의 확장자로 형식을 추측합니다.
+     * @param filename 업로드된 파일 이름
+     * @return 추측한 형식, 알 수 없으면 빈 Optional
+     */
+    public static Optional<BookmarkImportFormat> fromFilename(String filename) {
+        if (filename == null) {
+            return Optional.empty();
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? Optional.empty() : fromName(filename.substring(dot + 1));
+    }
+}
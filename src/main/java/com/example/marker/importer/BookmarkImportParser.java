@@ -0,0 +1,23 @@
+package com.example.marker.importer;
+
+import com.example.marker.dto.BookmarkCreateRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 북마크 파일을 읽으며 항목을 하나씩 넘겨주는 파서입니다.
+ * 파일 전체를 메모리에 올리지 않으므로 파일 크기와 관계없이 일정한 메모리로 동작합니다.
+ */
+public interface BookmarkImportParser {
+
+    /**
+     * 입력 스트림을 끝까지 읽으며 북마크를 발견할 때마다 consumer에 전달합니다.
+     * 전달하는 값은 검증 전의 원본 값이므로, 유효성 검증은 호출하는 쪽에서 수행해야 합니다.
+     * @param in 북마크 파일 스트림 (닫지 않음)
+     * @param consumer 북마크를 받을 콜백
+     * @throws IOException 읽기에 실패했거나 형식이 잘못된 경우
+     */
+    void parse(InputStream in, Consumer<BookmarkCreateRequest> consumer) throws IOException;
+}
@@ -0,0 +1,99 @@
+package com.example.marker.importer;
+
+import com.example.marker.dto.BookmarkCreateRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * JSON 배열 또는 NDJSON 형식의 북마크 파일을 Jackson 스트리밍 API로 읽는 파서입니다.
+ * 객체 하나씩만 메모리에 올리며, 다음 필드를 인식합니다. (그 외 필드는 무시)
+ * - 제목: title, name
+ * - URL: url, uri, href
+ * - 메모: memo, description, note
+ * - 태그: tags (문자열 배열 또는 쉼표로 구분한 문자열)
+ */
+public class JsonBookmarkParser implements BookmarkImportParser {
+
+    private final JsonFactory jsonFactory;
+
+    public JsonBookmarkParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public void parse(InputStream in, Consumer<BookmarkCreateRequest> consumer) throws IOException {
+        JsonParser parser = jsonFactory.createParser(in);
+        // 스트림은 호출하는 쪽에서 닫음
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        try (parser) {
+            JsonToken token;
+            int depth = 0;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case START_ARRAY -> depth++;
+                    case END_ARRAY -> depth--;
+                    case START_OBJECT -> consumer.accept(readBookmark(parser));
+                    default -> throw new JsonParseException(parser, "Expected a bookmark object but found " + token);
+                }
+                if (depth > 1) {
+                    throw new JsonParseException(parser, "Nested arrays are not supported");
+                }
+            }
+        }
+    }
+
+    private static BookmarkCreateRequest readBookmark(JsonParser parser) throws IOException {
+        String title = null;
+        String url = null;
+        String memo = null;
+        List<String> tags = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName().toLowerCase(Locale.ROOT);
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "title", "name" -> title = scalar(parser, value);
+                case "url", "uri", "href" -> url = scalar(parser, value);
+                case "memo", "description", "note" -> memo = scalar(parser, value);
+                case "tags" -> readTags(parser, value, tags);
+                default -> parser.skipChildren();
+            }
+        }
+        return new BookmarkCreateRequest(title, url, memo, tags);
+    }
+
+    private static String scalar(JsonParser parser, JsonToken value) throws IOException {
+        if (value.isScalarValue()) {
+            return value == JsonToken.VALUE_NULL ? null : parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static void readTags(JsonParser parser, JsonToken value, List<String> tags) throws IOException {
+        if (value == JsonToken.START_ARRAY) {
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                String tag = scalar(parser, element);
+                if (tag != null) {
+                    tags.add(tag);
+                }
+            }
+        } else if (value == JsonToken.VALUE_STRING) {
+            for (String tag : parser.getText().split(",")) {
+                tags.add(tag.trim());
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+}
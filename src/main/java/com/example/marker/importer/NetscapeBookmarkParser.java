@@ -0,0 +1,342 @@
+package com.example.marker.importer;
+
+import com.example.marker.dto.BookmarkCreateRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 브라우저가 내보내는 Netscape 북마크 HTML 파일을 DOM 없이 한 글자씩 읽는 파서입니다.
+ * 파일 구조는 다음과 같으며, 폴더(H3) 이름은 그 안에 있는 북마크의 태그가 됩니다.
+ * <pre>
+ * &lt;DL&gt;&lt;p&gt;
+ *     &lt;DT&gt;&lt;H3&gt;개발&lt;/H3&gt;
+ *     &lt;DL&gt;&lt;p&gt;
+ *         &lt;DT&gt;&lt;A HREF="https://spring.io" TAGS="java,spring"&gt;Spring&lt;/A&gt;
+ *         &lt;DD&gt;메모
+ *     &lt;/DL&gt;&lt;p&gt;
+ * &lt;/DL&gt;&lt;p&gt;
+ * </pre>
+ * 북마크바처럼 브라우저가 만든 최상위 폴더는 태그로 사용하지 않습니다.
+ * 태그 하나와 텍스트 하나의 길이에 상한을 두어, 아이콘 데이터가 큰 파일도 일정한 메모리로 처리합니다.
+ */
+public class NetscapeBookmarkParser implements BookmarkImportParser {
+
+    private static final int MAX_TAG_LENGTH = 16 * 1024; // 속성을 포함한 태그 하나의 최대 보관 길이 (초과분은 버림)
+    private static final int MAX_TEXT_LENGTH = 4 * 1024; // 제목, 메모 텍스트의 최대 보관 길이
+    private static final Set<String> BROWSER_ROOT_FOLDER_ATTRIBUTES = Set.of("PERSONAL_TOOLBAR_FOLDER", "UNFILED_BOOKMARKS_FOLDER");
+
+    @Override
+    public void parse(InputStream in, Consumer<BookmarkCreateRequest> consumer) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        new Tokenizer(reader, consumer).run();
+    }
+
+    private enum TextTarget {
+        NONE, TITLE, FOLDER, MEMO
+    }
+
+    /**
+     * 파일 하나를 읽는 동안의 상태를 보관합니다.
+     */
+    private static class Tokenizer {
+
+        private final Reader reader;
+        private final Consumer<BookmarkCreateRequest> consumer;
+
+        // 현재 위치를 감싸는 폴더 이름 (태그로 사용하지 않는 폴더는 null)
+        private final List<String> folders = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private TextTarget textTarget = TextTarget.NONE;
+
+        // 다음 <DL>이 열 폴더 이름
+        private String pendingFolder;
+        // H3를 읽는 중인 폴더가 태그로 사용하지 않는 폴더인지 여부
+        private boolean skipFolder;
+
+        // 아직 전달하지 않은 북마크 (<DD> 메모가 뒤따를 수 있으므로 다음 태그까지 보관)
+        private String anchorUrl;
+        private String anchorTags;
+        private BookmarkCreateRequest pending;
+
+        Tokenizer(Reader reader, Consumer<BookmarkCreateRequest> consumer) {
+            this.reader = reader;
+            this.consumer = consumer;
+        }
+
+        void run() throws IOException {
+            StringBuilder tag = new StringBuilder();
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '<') {
+                    if (readTag(tag)) {
+                        handleTag(tag.toString());
+                    }
+                } else if (textTarget != TextTarget.NONE && text.length() < MAX_TEXT_LENGTH) {
+                    text.append((char) c);
+                }
+            }
+            finishText();
+            flush();
+        }
+
+        /**
+         * '&lt;' 다음부터 '&gt;'까지 읽습니다. 주석(&lt;!-- --&gt;)은 길이와 관계없이 끝까지 건너뜁니다.
+         * @return 처리할 태그를 읽었으면 true
+         */
+        private boolean readTag(StringBuilder tag) throws IOException {
+            tag.setLength(0);
+            boolean comment = false;
+            int previous = 0;
+            int beforePrevious = 0;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '>') {
+                    if (!comment) {
+                        return tag.length() > 0;
+                    }
+                    if (previous == '-' && beforePrevious == '-' && tag.length() >= 5) {
+                        return false;
+                    }
+                }
+                if (tag.length() < MAX_TAG_LENGTH) {
+                    tag.append((char) c);
+                    if (tag.length() == 3 && tag.charAt(0) == '!' && tag.charAt(1) == '-' && tag.charAt(2) == '-') {
+                        comment = true;
+                    }
+                }
+                beforePrevious = previous;
+                previous = c;
+            }
+            return false;
+        }
+
+        private void handleTag(String tag) {
+            boolean closing = tag.charAt(0) == '/';
+            String name = tagName(tag, closing ? 1 : 0);
+
+            // 메모는 다음 태그가 나올 때까지의 텍스트
+            if (textTarget == TextTarget.MEMO) {
+                finishText();
+            }
+            // <DD>가 아닌 태그가 나오면 보관 중인 북마크에 더 붙을 메모가 없음
+            boolean memoStart = !closing && name.equals("DD");
+            if (!memoStart) {
+                flush();
+            }
+
+            if (closing) {
+                switch (name) {
+                    case "A", "H3" -> finishText();
+                    case "DL" -> {
+                        if (!folders.isEmpty()) {
+                            folders.remove(folders.size() - 1);
+                        }
+                    }
+                    default -> { }
+                }
+                return;
+            }
+
+            switch (name) {
+                case "A" -> {
+                    Map<String, String> attributes = attributes(tag);
+                    anchorUrl = attributes.get("HREF");
+                    anchorTags = attributes.get("TAGS");
+                    startText(TextTarget.TITLE);
+                }
+                case "H3" -> {
+                    Map<String, String> attributes = attributes(tag);
+                    skipFolder = BROWSER_ROOT_FOLDER_ATTRIBUTES.stream().anyMatch(attributes::containsKey);
+                    startText(TextTarget.FOLDER);
+                }
+                case "DL" -> {
+                    folders.add(pendingFolder);
+                    pendingFolder = null;
+                }
+                case "DD" -> {
+                    if (pending != null) {
+                        startText(TextTarget.MEMO);
+                    }
+                }
+                default -> { }
+            }
+        }
+
+        private void startText(TextTarget target) {
+            text.setLength(0);
+            textTarget = target;
+        }
+
+        private void finishText() {
+            String value = decodeEntities(text.toString()).trim();
+            switch (textTarget) {
+                case TITLE -> {
+                    pending = new BookmarkCreateRequest(value, anchorUrl, null, tags());
+                    anchorUrl = null;
+                    anchorTags = null;
+                }
+                case FOLDER -> pendingFolder = skipFolder || value.isEmpty() ? null : value;
+                case MEMO -> {
+                    if (pending != null && !value.isEmpty()) {
+                        pending.setMemo(value);
+                    }
+                }
+                default -> { }
+            }
+            text.setLength(0);
+            textTarget = TextTarget.NONE;
+        }
+
+        private void flush() {
+            if (pending != null) {
+                consumer.accept(pending);
+                pending = null;
+            }
+        }
+
+        private List<String> tags() {
+            Set<String> tags = new LinkedHashSet<>();
+            for (String folder : folders) {
+                if (folder != null) {
+                    tags.add(folder);
+                }
+            }
+            if (anchorTags != null) {
+                for (String tag : anchorTags.split(",")) {
+                    String trimmed = tag.trim();
+                    if (!trimmed.isEmpty()) {
+                        tags.add(trimmed);
+                    }
+                }
+            }
+            return new ArrayList<>(tags);
+        }
+    }
+
+    private static String tagName(String tag, int from) {
+        int end = from;
+        while (end < tag.length() && !Character.isWhitespace(tag.charAt(end)) && tag.charAt(end) != '/') {
+            end++;
+        }
+        return tag.substring(from, end).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 태그의 속성을 읽습니다. 속성 이름은 대문자로 바꾸며, 값이 없는 속성은 빈 문자열로 보관합니다.
+     */
+    static Map<String, String> attributes(String tag) {
+        Map<String, String> attributes = new HashMap<>();
+        int length = tag.length();
+        int i = 0;
+        // 태그 이름 건너뛰기
+        while (i < length && !Character.isWhitespace(tag.charAt(i))) {
+            i++;
+        }
+        while (i < length) {
+            while (i < length && (Character.isWhitespace(tag.charAt(i)) || tag.charAt(i) == '/')) {
+                i++;
+            }
+            int nameStart = i;
+            while (i < length && tag.charAt(i) != '=' && !Character.isWhitespace(tag.charAt(i))) {
+                i++;
+            }
+            if (nameStart == i) {
+                break;
+            }
+            String name = tag.substring(nameStart, i).toUpperCase(Locale.ROOT);
+            while (i < length && Character.isWhitespace(tag.charAt(i))) {
+                i++;
+            }
+            if (i >= length || tag.charAt(i) != '=') {
+                attributes.put(name, "");
+                continue;
+            }
+            i++;
+            while (i < length && Character.isWhitespace(tag.charAt(i))) {
+                i++;
+            }
+            int valueStart;
+            int valueEnd;
+            if (i < length && (tag.charAt(i) == '"' || tag.charAt(i) == '\'')) {
+                char quote = tag.charAt(i++);
+                valueStart = i;
+                while (i < length && tag.charAt(i) != quote) {
+                    i++;
+                }
+                valueEnd = i++;
+            } else {
+                valueStart = i;
+                while (i < length && !Character.isWhitespace(tag.charAt(i))) {
+                    i++;
+                }
+                valueEnd = i;
+            }
+            attributes.put(name, decodeEntities(tag.substring(valueStart, Math.min(valueEnd, length))));
+        }
+        return attributes;
+    }
+
+    /**
+     * HTML 문자 참조(&amp;amp;, &amp;#39; 등)를 원래 문자로 바꿉니다. 알 수 없는 참조는 그대로 둡니다.
+     */
+    static String decodeEntities(String value) {
+        int amp = value.indexOf('&');
+        if (amp < 0) {
+            return value;
+        }
+        StringBuilder decoded = new StringBuilder(value.length());
+        int i = 0;
+        while (amp >= 0) {
+            decoded.append(value, i, amp);
+            int semicolon = value.indexOf(';', amp);
+            String replacement = semicolon > amp && semicolon - amp <= 10 ? entity(value.substring(amp + 1, semicolon)) : null;
+            if (replacement == null) {
+                decoded.append('&');
+                i = amp + 1;
+            } else {
+                decoded.append(replacement);
+                i = semicolon + 1;
+            }
+            amp = value.indexOf('&', i);
+        }
+        decoded.append(value, i, value.length());
+        return decoded.toString();
+    }
+
+    private static String entity(String name) {
+        switch (name) {
+            case "amp": return "&";
+            case "lt": return "<";
+            case "gt": return ">";
+            case "quot": return "\"";
+            case "apos": return "'";
+            case "nbsp": return " ";
+            default:
+                break;
+        }
+        if (name.length() < 2 || name.charAt(0) != '#') {
+            return null;
+        }
+        try {
+            int codePoint = name.charAt(1) == 'x' || name.charAt(1) == 'X'
+                    ? Integer.parseInt(name.substring(2), 16)
+                    : Integer.parseInt(name.substring(1));
+            return Character.isValidCodePoint(codePoint) ? new String(Character.toChars(codePoint)) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
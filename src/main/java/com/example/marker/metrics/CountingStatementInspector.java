@@ -0,0 +1,16 @@
+package com.example.marker.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 JDBC로 보내기 위해 준비하는 SQL 문을 {@link StatementCounter}에 기록합니다.
+ * SQL 문은 바꾸지 않습니다. JDBC 배치로 묶인 INSERT/UPDATE는 배치마다 한 번 준비되므로 한 번으로 기록됩니다.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.marker.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드 실행 시간을 Micrometer Timer로 기록하는 MethodInterceptor입니다.
+ * Timer는 메서드별로 처음 호출될 때 한 번만 만들어 보관하므로, 이후 호출에서는 Tag나 Timer.Sample 같은 객체를 만들지 않고
+ * System.nanoTime() 두 번과 Timer.record()만 수행합니다.
+ * <p>
+ * 기록되는 Timer: {@code <metricName>{<componentTag>=<componentName>, method=메서드 이름, outcome=SUCCESS|ERROR}}
+ * (percentile histogram 포함)
+ * <p>
+ * 요청 단계별 시간을 측정하는 중이면({@link RequestTimings#current()}) 실행 시간을 지정한 단계에도 더합니다.
+ */
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final String metricName;
+    private final String componentTag;
+    private final String componentName;
+    private final RequestTimings.Stage stage;
+    // 메서드별 Timer ([0]: 정상 종료, [1]: 예외 발생)
+    private final ConcurrentMap<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistryProvider 인터셉터가 MeterRegistry보다 먼저 만들어질 수 있으므로 처음 기록할 때 조회합니다.
+     * @param stage 실행 시간을 더할 요청 단계
+     */
+    public MethodTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                   String metricName, String componentTag, String componentName,
+                                   RequestTimings.Stage stage) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.metricName = metricName;
+        this.componentTag = componentTag;
+        this.componentName = componentName;
+        this.stage = stage;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timer[] methodTimers = timers(invocation.getMethod());
+        RequestTimings requestTimings = RequestTimings.current();
+        if (requestTimings != null) {
+            requestTimings.start(stage);
+        }
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            methodTimers[success ? 0 : 1].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (requestTimings != null) {
+                requestTimings.stop(stage);
+            }
+        }
+    }
+
+    private Timer[] timers(Method method) {
+        Timer[] methodTimers = timers.get(method); // 대부분의 호출은 잠금 없이 여기서 끝남
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method, this::register);
+        }
+        return methodTimers;
+    }
+
+    private Timer[] register(Method method) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getObject();
+        return new Timer[] {
+                register(meterRegistry, method, "SUCCESS"),
+                register(meterRegistry, method, "ERROR")
+        };
+    }
+
+    private Timer register(MeterRegistry meterRegistry, Method method, String outcome) {
+        return Timer.builder(metricName)
+                .tag(componentTag, componentName)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
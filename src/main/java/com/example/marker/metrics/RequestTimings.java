@@ -0,0 +1,132 @@
+package com.example.marker.metrics;
+
+import java.util.Locale;
+
+/**
+ * HTTP 요청 하나를 처리하는 동안 단계(JWT 검증, 서비스, 캐시, 리포지토리, 응답 직렬화)별로 걸린 시간을 모읍니다.
+ * ServerTimingFilter가 요청을 처리하는 스레드에 하나를 만들어 두며, 필터가 꺼져 있으면 {@link #current()}가 null을 반환하므로
+ * 각 계측 지점은 ThreadLocal 조회 한 번 외에는 아무것도 하지 않습니다.
+ * <p>
+ * 같은 단계가 중첩되어 호출되면(예: 서비스 메서드가 프록시를 통해 다른 서비스 메서드를 호출) 가장 바깥쪽 호출의 시간만 더합니다.
+ * 단계끼리는 겹칠 수 있습니다. (서비스 시간에는 캐시와 리포지토리 시간이 포함됨)
+ */
+public final class RequestTimings {
+
+    public enum Stage {
+        AUTH("auth", "JWT verification"),
+        SERVICE("service", "BookmarkService"),
+        CACHE("cache", "Cache lookups"),
+        REPOSITORY("repository", "Repository calls"),
+        SERIALIZATION("serialization", "Response body writing");
+
+        private final String metricName;
+        private final String description;
+
+        Stage(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final Stage[] STAGES = Stage.values();
+
+    private final long[] totalNanos = new long[STAGES.length];
+    private final long[] startedAt = new long[STAGES.length];
+    private final int[] depths = new int[STAGES.length];
+    private final int[] counts = new int[STAGES.length];
+
+    private RequestTimings() {
+    }
+
+    /**
+     * 현재 스레드에서 측정을 시작합니다. 요청 처리가 끝나면 반드시 {@link #close()}를 호출해야 합니다.
+     */
+    static RequestTimings open() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * @return 현재 스레드에서 측정 중인 요청의 RequestTimings (측정하지 않으면 null)
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public void start(Stage stage) {
+        int index = stage.ordinal();
+        if (depths[index]++ == 0) {
+            startedAt[index] = System.nanoTime();
+        }
+    }
+
+    public void stop(Stage stage) {
+        int index = stage.ordinal();
+        if (depths[index] > 0 && --depths[index] == 0) {
+            totalNanos[index] += System.nanoTime() - startedAt[index];
+            counts[index]++;
+        }
+    }
+
+    /**
+     * 아직 끝나지 않은 단계를 모두 끝내고 현재 스레드에서 측정을 마칩니다.
+     * 응답 직렬화는 보통 ResponseBodyTimingInterceptor에서 끝나며, 인터셉터를 거치지 않고 끝난 요청만 여기서 끝납니다.
+     */
+    void close() {
+        for (Stage stage : STAGES) {
+            if (depths[stage.ordinal()] > 0) {
+                depths[stage.ordinal()] = 1;
+                stop(stage);
+            }
+        }
+        CURRENT.remove();
+    }
+
+    /**
+     * @return 단계에서 보낸 전체 시간 (나노초, 진행 중인 호출은 제외)
+     */
+    public long getTotalNanos(Stage stage) {
+        return totalNanos[stage.ordinal()];
+    }
+
+    /**
+     * @return 단계가 끝난 횟수 (가장 바깥쪽 호출 기준)
+     */
+    public int getCount(Stage stage) {
+        return counts[stage.ordinal()];
+    }
+
+    /**
+     * 끝난 단계들을 Server-Timing 헤더 값으로 만듭니다. 예: {@code auth;dur=0.120, repository;dur=3.402;desc="2 calls"}
+     * @return 헤더 값 (끝난 단계가 없으면 빈 문자열)
+     */
+    public String toServerTimingHeader() {
+        StringBuilder header = new StringBuilder();
+        for (Stage stage : STAGES) {
+            int count = counts[stage.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            if (!header.isEmpty()) {
+                header.append(", ");
+            }
+            header.append(stage.metricName)
+                    .append(";dur=")
+                    .append(String.format(Locale.ROOT, "%.3f", totalNanos[stage.ordinal()] / 1e6));
+            if (count > 1) {
+                header.append(";desc=\"").append(count).append(" calls\"");
+            }
+        }
+        return header.toString();
+    }
+}
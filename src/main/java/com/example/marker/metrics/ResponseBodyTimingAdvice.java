@@ -0,0 +1,33 @@
+package com.example.marker.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * HTTP 메시지 변환기가 응답 본문을 쓰기 직전에 직렬화 단계를 시작합니다.
+ * 변환기(JSON, CBOR, Smile)와 관계없이 측정되며, 단계는 본문을 모두 쓴 뒤 ResponseBodyTimingInterceptor에서 끝납니다.
+ */
+@ControllerAdvice
+public class ResponseBodyTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return RequestTimings.current() != null;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.start(RequestTimings.Stage.SERIALIZATION);
+        }
+        return body;
+    }
+}
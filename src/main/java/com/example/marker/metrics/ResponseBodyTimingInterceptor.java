@@ -0,0 +1,32 @@
+package com.example.marker.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 응답 본문을 모두 쓴 시점에 직렬화 단계를 끝내는 인터셉터입니다.
+ * '@ResponseBody' 핸들러는 postHandle이 호출되기 전에 본문을 모두 쓰므로, 그 이후의 처리(인터셉터 완료, EntityManager 정리,
+ * 보안/처리량 제한 필터의 반환)는 직렬화 시간에 포함되지 않습니다.
+ * 예외 처리기(@ExceptionHandler)가 본문을 쓴 경우에는 postHandle이 호출되지 않으므로 afterCompletion에서 끝냅니다.
+ */
+public class ResponseBodyTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        stopSerialization();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        stopSerialization();
+    }
+
+    private static void stopSerialization() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.stop(RequestTimings.Stage.SERIALIZATION); // 이미 끝났거나 시작하지 않았으면 아무것도 하지 않음
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.marker.metrics;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * 응답 본문을 최대 maxBufferBytes까지 모아 두었다가, Server-Timing 헤더를 추가한 뒤에 보내는 응답 래퍼입니다.
+ * 헤더는 본문보다 먼저 보내야 하므로, 본문을 모아 두어야 직렬화 시간까지 헤더에 담을 수 있습니다.
+ * 본문이 maxBufferBytes를 넘거나 sendError/sendRedirect가 호출되면 그때까지 끝난 단계만 헤더에 담고
+ * 이후의 본문은 버퍼 없이 바로 보냅니다. (내보내기처럼 큰 응답도 메모리를 일정하게 사용)
+ */
+class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final RequestTimings timings;
+    private final int maxBufferBytes;
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private ServletOutputStream target; // 버퍼를 비운 뒤 본문을 보낼 원래 응답의 스트림
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    ServerTimingResponseWrapper(HttpServletResponse response, RequestTimings timings, int maxBufferBytes) {
+        super(response);
+        this.timings = timings;
+        this.maxBufferBytes = maxBufferBytes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        return bufferingStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called for this response");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(bufferingStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        // 버퍼에 모으는 동안에는 응답을 확정(commit)하지 않음
+        if (writer != null) {
+            writer.flush();
+        }
+        if (buffer == null) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (buffer != null) {
+            buffer.reset();
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (buffer != null) {
+            buffer.reset();
+        }
+        super.reset();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        passThrough();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        passThrough();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        passThrough();
+        super.sendRedirect(location);
+    }
+
+    /**
+     * 요청 처리가 끝난 뒤 호출합니다. 헤더를 추가하고 모아 둔 본문을 보냅니다.
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        passThrough();
+    }
+
+    private ServletOutputStream bufferingStream() {
+        if (outputStream == null) {
+            outputStream = new BufferingOutputStream();
+        }
+        return outputStream;
+    }
+
+    // 헤더를 추가하고 버퍼를 비운 뒤, 이후의 본문은 원래 응답으로 바로 보냄
+    private void passThrough() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        String header = timings.toServerTimingHeader();
+        if (!header.isEmpty() && !isCommitted()) {
+            setHeader("Server-Timing", header);
+        }
+        ByteArrayOutputStream buffered = buffer;
+        buffer = null;
+        if (buffered.size() > 0) {
+            buffered.writeTo(target());
+        }
+    }
+
+    private ServletOutputStream target() throws IOException {
+        if (target == null) {
+            target = super.getOutputStream();
+        }
+        return target;
+    }
+
+    private class BufferingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (buffer != null && buffer.size() + 1 > maxBufferBytes) {
+                passThrough();
+            }
+            if (buffer != null) {
+                buffer.write(b);
+            } else {
+                target().write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (buffer != null && buffer.size() + len > maxBufferBytes) {
+                passThrough();
+            }
+            if (buffer != null) {
+                buffer.write(b, off, len);
+            } else {
+                target().write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer == null) {
+                target().flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Non-blocking writes are not supported while buffering for Server-Timing");
+        }
+    }
+}
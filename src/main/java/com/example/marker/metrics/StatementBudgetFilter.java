@@ -0,0 +1,78 @@
+package com.example.marker.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나를 처리하는 동안 실행한 SQL 문의 수를 세는 필터입니다.
+ * - 전체 SQL 문 수가 예산(max-statements)을 넘으면 경고 로그를 남깁니다.
+ * - 같은 SQL 문을 max-repeats보다 많이 반복하면 N+1 쿼리로 의심하여 해당 SQL 문과 함께 경고 로그를 남깁니다.
+ * 요청별 SQL 문 수는 marker.sql.statements 메트릭으로도 기록합니다.
+ * 요청을 처리한 스레드에서 실행한 SQL 문만 세므로, 비동기 작업(가져오기 작업, 캐시 워밍업)의 SQL 문은 포함되지 않습니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final DistributionSummary statementsPerRequest;
+
+    public StatementBudgetFilter(MeterRegistry meterRegistry,
+                                 @Value("${marker.sql.statement-budget.enabled:true}") boolean enabled,
+                                 @Value("${marker.sql.statement-budget.max-statements:10}") int maxStatements,
+                                 @Value("${marker.sql.statement-budget.max-repeats:5}") int maxRepeats) {
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.statementsPerRequest = DistributionSummary.builder("marker.sql.statements")
+                .description("SQL statements issued per HTTP request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounter.Scope scope = StatementCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            check(request, scope);
+        }
+    }
+
+    private void check(HttpServletRequest request, StatementCounter.Scope scope) {
+        int count = scope.getCount();
+        statementsPerRequest.record(count);
+        if (count > maxStatements) {
+            log.warn("{} {} issued {} SQL statement(s), over the budget of {}.",
+                    request.getMethod(), request.getRequestURI(), count, maxStatements);
+        }
+        int repeats = scope.getMaxRepeats();
+        if (repeats > maxRepeats) {
+            log.warn("{} {} executed the same SQL statement {} times (possible N+1): {}",
+                    request.getMethod(), request.getRequestURI(), repeats, scope.getMostRepeatedStatement());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.marker.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행한 SQL 문을 세는 카운터입니다.
+ * {@link CountingStatementInspector}가 Hibernate가 준비하는 SQL 문마다 {@link #record(String)}를 호출하며,
+ * 열려 있는 모든 범위(Scope)에 함께 기록됩니다. 범위를 열지 않은 스레드에서는 아무것도 기록하지 않습니다.
+ * <pre>
+ * try (StatementCounter.Scope scope = StatementCounter.open()) {
+ *     bookmarkService.getAllBookmarks(pageable);
+ *     assertThat(scope.getCount()).isLessThanOrEqualTo(3);
+ * }
+ * </pre>
+ * 범위는 중첩할 수 있으므로, 요청 단위 범위(StatementBudgetFilter) 안에서 테스트가 더 좁은 범위를 열어도 서로 영향을 주지 않습니다.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    /**
+     * 현재 스레드에 새 범위를 엽니다. 사용한 범위는 반드시 닫아야 합니다.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void record(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.record(sql);
+        }
+    }
+
+    /**
+     * 범위가 열려 있는 동안 실행한 SQL 문의 수와 SQL 문별 실행 횟수를 보관합니다.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+        private int count;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            if (closed) {
+                return;
+            }
+            count++;
+            countsBySql.merge(sql, 1, Integer::sum);
+        }
+
+        /**
+         * @return 실행한 SQL 문의 수
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return SQL 문별 실행 횟수 (바인딩 파라미터는 '?'로 남아 있으므로, 같은 쿼리를 반복하면 하나의 항목으로 집계됨)
+         */
+        public Map<String, Integer> getCountsBySql() {
+            return Collections.unmodifiableMap(countsBySql);
+        }
+
+        /**
+         * @return 가장 많이 반복한 SQL 문의 실행 횟수. N+1 쿼리가 있으면 조회한 행 수만큼 커집니다.
+         */
+        public int getMaxRepeats() {
+            int max = 0;
+            for (int repeats : countsBySql.values()) {
+                max = Math.max(max, repeats);
+            }
+            return max;
+        }
+
+        /**
+         * @return 가장 많이 반복한 SQL 문 (실행한 SQL 문이 없으면 null)
+         */
+        public String getMostRepeatedStatement() {
+            String statement = null;
+            int max = 0;
+            for (Map.Entry<String, Integer> entry : countsBySql.entrySet()) {
+                if (entry.getValue() > max) {
+                    max = entry.getValue();
+                    statement = entry.getKey();
+                }
+            }
+            return statement;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.example.marker.repository;
 
 import com.example.marker.domain.Bookmark;
+import com.example.marker.dto.BookmarkExportRow;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 /**
  * 북마크 엔티티에 대한 데이터베이스 작업을 처리하는 Spring Data JPA 리포지토리입니다.
  * JpaRepository를 상속받아 기본적인 CRUD(Create, Read, Update, Delete) 메소드를 자동으로 제공받습니다.
+ * 조회할 컬럼이 요청마다 달라지는 조회는 {@link BookmarkRepositoryCustom}을 통해 제공합니다.
  */
-public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
+public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, BookmarkRepositoryCustom {
 
     /**
      * 특정 사용자의 모든 북마크를 페이징하여 조회합니다.
@@ -48,4 +55,62 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
      */
     @Query("SELECT b FROM Bookmark b LEFT JOIN FETCH b.user LEFT JOIN FETCH b.bookmarkTags bt LEFT JOIN FETCH bt.tag WHERE b.id = :id")
     Optional<Bookmark> findByIdWithTags(@Param("id") Long id);
+
+    /**
+     * 여러 ID의 북마크를 사용자와 태그 정보까지 한 번의 쿼리로 함께 가져옵니다.
+     * @param ids 조회할 북마크 ID 목록
+     * @return 태그 정보가 포함된 북마크 목록 (순서는 보장되지 않음)
+     */
+    @Query("SELECT DISTINCT b FROM Bookmark b LEFT JOIN FETCH b.user LEFT JOIN FETCH b.bookmarkTags bt LEFT JOIN FETCH bt.tag WHERE b.id IN :ids")
+    List<Bookmark> findAllByIdInWithTags(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 특정 사용자의 북마크 ID를 최근 수정된 순서로 조회합니다. (캐시 워밍업 대상 선정)
+     * @param userId 사용자의 ID
+     * @param pageable 조회할 개수
+     * @return 최근 수정된 순서의 북마크 ID 목록
+     */
+    @Query("SELECT b.id FROM Bookmark b WHERE b.user.id = :userId ORDER BY b.updatedAt DESC")
+    List<Long> findRecentlyUpdatedIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자의 모든 북마크를 태그 이름과 조인하여 ID 순서로 스트리밍합니다. (내보내기용)
+     * 엔티티 대신 값만 조회하므로 영속성 컨텍스트에 쌓이지 않으며, 결과는 전진 전용(forward-only) 커서로 fetch size만큼씩 읽습니다.
+     * 반환된 Stream은 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.example.marker.dto.BookmarkExportRow(b.id, b.title, b.url, b.memo, b.createdAt, t.name) " +
+            "FROM Bookmark b LEFT JOIN b.bookmarkTags bt LEFT JOIN bt.tag t " +
+            "WHERE b.user.id = :userId ORDER BY b.id, bt.id")
+    Stream<BookmarkExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 ID 중 특정 사용자가 소유한 북마크의 ID만 조회합니다. (일괄 삭제 대상 선정)
+     */
+    @Query("SELECT b.id FROM Bookmark b WHERE b.user.id = :userId AND b.id IN :ids")
+    List<Long> findIdsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 특정 태그를 가진 사용자의 북마크 ID를 조회합니다. (일괄 삭제 대상 선정)
+     */
+    @Query("SELECT DISTINCT b.id FROM Bookmark b JOIN b.bookmarkTags bt JOIN bt.tag t WHERE b.user.id = :userId AND t.name = :tagName")
+    List<Long> findIdsByUserIdAndTagName(@Param("userId") Long userId, @Param("tagName") String tagName);
+
+    /**
+     * 제목 또는 URL에 키워드가 포함된 사용자의 북마크 ID를 조회합니다. (일괄 삭제 대상 선정)
+     */
+    @Query("SELECT b.id FROM Bookmark b WHERE b.user.id = :userId AND (LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(b.url) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    List<Long> findIdsByUserIdAndKeyword(@Param("userId") Long userId, @Param("keyword") String keyword);
+
+    /**
+     * 사용자의 북마크를 한 번의 DELETE 문으로 삭제합니다.
+     * 엔티티를 거치지 않으므로 태그 연결(bookmark_tag)은 먼저 삭제해야 하며, 실행 후 영속성 컨텍스트를 비웁니다.
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Bookmark b WHERE b.user.id = :userId AND b.id IN :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
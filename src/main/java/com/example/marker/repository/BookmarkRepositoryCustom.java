@@ -0,0 +1,28 @@
+package com.example.marker.repository;
+
+import com.example.marker.dto.BookmarkField;
+import com.example.marker.dto.BookmarkProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+
+/**
+ * 조회할 컬럼이 요청마다 달라지는 북마크 조회를 위한 사용자 정의 리포지토리입니다.
+ * 구현은 {@link BookmarkRepositoryImpl}에 있으며, {@link BookmarkRepository}를 통해 사용합니다.
+ */
+public interface BookmarkRepositoryCustom {
+
+    /**
+     * 사용자의 북마크를 선택한 필드만 조회합니다.
+     * tagName이 있으면 태그로, 없고 keyword가 있으면 제목 또는 URL로 필터링합니다.
+     * @param userId 사용자 ID
+     * @param tagName 조회할 태그 이름 (선택)
+     * @param keyword 검색할 키워드 (선택)
+     * @param fields 조회할 필드
+     * @param pageable 페이징 정보
+     * @return 선택한 필드만 채워진 북마크 페이지
+     */
+    Page<BookmarkProjection> findProjectedByUserId(Long userId, String tagName, String keyword,
+                                                   Set<BookmarkField> fields, Pageable pageable);
+}
@@ -0,0 +1,130 @@
+package com.example.marker.repository;
+
+import com.example.marker.domain.Bookmark;
+import com.example.marker.domain.BookmarkTag;
+import com.example.marker.dto.BookmarkField;
+import com.example.marker.dto.BookmarkProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link BookmarkRepositoryCustom}의 구현입니다.
+ * Criteria API로 선택한 필드의 컬럼만 SELECT 하는 Tuple 쿼리를 만들고,
+ * 태그를 선택한 경우에만 페이지에 포함된 북마크의 태그를 한 번의 쿼리로 조회합니다.
+ */
+public class BookmarkRepositoryImpl implements BookmarkRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<BookmarkProjection> findProjectedByUserId(Long userId, String tagName, String keyword,
+                                                          Set<BookmarkField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Bookmark> bookmark = query.from(Bookmark.class);
+        // ID는 태그 조회와 행 구분에 필요하므로 항상 조회
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(bookmark.get(BookmarkField.ID.getAttribute()).alias(BookmarkField.ID.getAttribute()));
+        for (BookmarkField field : fields) {
+            if (field != BookmarkField.ID && field.getAttribute() != null) {
+                selections.add(bookmark.get(field.getAttribute()).alias(field.getAttribute()));
+            }
+        }
+        query.multiselect(selections)
+                .where(filter(cb, bookmark, userId, tagName, keyword))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), bookmark, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Tuple> tuples = typedQuery.getResultList();
+
+        Map<Long, List<String>> tagsByBookmarkId = fields.contains(BookmarkField.TAGS)
+                ? findTagNames(tuples.stream().map(tuple -> tuple.get(BookmarkField.ID.getAttribute(), Long.class)).toList())
+                : Map.of();
+
+        List<BookmarkProjection> content = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Long id = tuple.get(BookmarkField.ID.getAttribute(), Long.class);
+            content.add(BookmarkProjection.builder()
+                    .id(id)
+                    .title(value(tuple, fields, BookmarkField.TITLE, String.class))
+                    .url(value(tuple, fields, BookmarkField.URL, String.class))
+                    .memo(value(tuple, fields, BookmarkField.MEMO, String.class))
+                    .createdAt(value(tuple, fields, BookmarkField.CREATED_AT, LocalDateTime.class))
+                    .updatedAt(value(tuple, fields, BookmarkField.UPDATED_AT, LocalDateTime.class))
+                    .tags(fields.contains(BookmarkField.TAGS) ? tagsByBookmarkId.getOrDefault(id, List.of()) : null)
+                    .build());
+        }
+        // 첫 페이지가 다 차지 않은 경우 등에는 COUNT 쿼리를 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(userId, tagName, keyword));
+    }
+
+    private long count(Long userId, String tagName, String keyword) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Bookmark> bookmark = query.from(Bookmark.class);
+        query.select(cb.count(bookmark)).where(filter(cb, bookmark, userId, tagName, keyword));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // 기존 목록 조회와 같은 조건: 태그가 있으면 태그로, 없으면 키워드로 필터링
+    private static Predicate filter(CriteriaBuilder cb, Root<Bookmark> bookmark, Long userId, String tagName, String keyword) {
+        Predicate owner = cb.equal(bookmark.get("user").get("id"), userId);
+        if (tagName != null && !tagName.isBlank()) {
+            Join<Bookmark, BookmarkTag> bookmarkTag = bookmark.join("bookmarkTags");
+            return cb.and(owner, cb.equal(bookmarkTag.get("tag").get("name"), tagName));
+        }
+        if (keyword != null && !keyword.isBlank()) {
+            String pattern = "%" + keyword.toLowerCase(Locale.ROOT) + "%";
+            return cb.and(owner, cb.or(
+                    cb.like(cb.lower(bookmark.get("title")), pattern),
+                    cb.like(cb.lower(bookmark.get("url")), pattern)));
+        }
+        return owner;
+    }
+
+    private Map<Long, List<String>> findTagNames(List<Long> bookmarkIds) {
+        if (bookmarkIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT bt.bookmark.id, t.name FROM BookmarkTag bt JOIN bt.tag t WHERE bt.bookmark.id IN :ids ORDER BY bt.id",
+                        Object[].class)
+                .setParameter("ids", bookmarkIds)
+                .getResultList();
+        Map<Long, List<String>> tagsByBookmarkId = new HashMap<>();
+        for (Object[] row : rows) {
+            tagsByBookmarkId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return tagsByBookmarkId;
+    }
+
+    private static <T> T value(Tuple tuple, Set<BookmarkField> fields, BookmarkField field, Class<T> type) {
+        return fields.contains(field) ? tuple.get(field.getAttribute(), type) : null;
+    }
+}
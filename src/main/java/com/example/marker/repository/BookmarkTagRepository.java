@@ -2,6 +2,16 @@ package com.example.marker.repository;
 
 import com.example.marker.domain.BookmarkTag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 public interface BookmarkTagRepository extends JpaRepository<BookmarkTag, Long> {
-}
\ No newline at end of file
+
+    // 사용자가 소유한 북마크의 태그 연결을 한 번의 DELETE 문으로 삭제 (북마크 일괄 삭제 전에 실행)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM BookmarkTag bt WHERE bt.bookmark.id IN (SELECT b.id FROM Bookmark b WHERE b.user.id = :userId AND b.id IN :bookmarkIds)")
+    int deleteByUserIdAndBookmarkIdIn(@Param("userId") Long userId, @Param("bookmarkIds") Collection<Long> bookmarkIds);
+}
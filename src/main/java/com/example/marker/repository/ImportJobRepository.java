@@ -0,0 +1,38 @@
+package com.example.marker.repository;
+
+import com.example.marker.domain.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    // 기동 시 이어서 처리할 이 노드의 작업(대기 중이거나 실행 중이던 작업)을 조회
+    List<ImportJob> findAllByOwnerNodeIdAndStatusInOrderByIdAsc(String ownerNodeId, Collection<ImportJob.Status> statuses);
+
+    // 이 노드의 진행 중인 작업에 heartbeat(updatedAt)를 기록
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.updatedAt = :now WHERE j.ownerNodeId = :nodeId AND j.status IN :statuses")
+    int touchActiveJobs(@Param("nodeId") String nodeId,
+                        @Param("statuses") Collection<ImportJob.Status> statuses,
+                        @Param("now") LocalDateTime now);
+
+    // 다른 노드의 진행 중인 작업 중 heartbeat가 staleBefore 이전에 끊긴 작업을 실패로 기록
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :failed, j.errorMessage = :errorMessage, j.updatedAt = :now " +
+            "WHERE j.status IN :statuses AND (j.ownerNodeId IS NULL OR j.ownerNodeId <> :nodeId) AND j.updatedAt < :staleBefore")
+    int failStaleJobs(@Param("nodeId") String nodeId,
+                      @Param("statuses") Collection<ImportJob.Status> statuses,
+                      @Param("staleBefore") LocalDateTime staleBefore,
+                      @Param("failed") ImportJob.Status failed,
+                      @Param("errorMessage") String errorMessage,
+                      @Param("now") LocalDateTime now);
+}
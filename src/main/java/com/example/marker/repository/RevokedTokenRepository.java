@@ -0,0 +1,23 @@
+package com.example.marker.repository;
+
+import com.example.marker.domain.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // 아직 만료되지 않은 폐기 토큰 목록 (기동 시 메모리 상태 복원용)
+    List<RevokedToken> findAllByExpiresAtAfter(Instant now);
+
+    // 만료된 폐기 기록을 한 번의 쿼리로 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -3,9 +3,14 @@ package com.example.marker.repository;
 import com.example.marker.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     // 태그 이름으로 태그를 찾는 쿼리 메소드
     Optional<Tag> findByName(String name);
+
+    // 여러 태그를 한 번의 쿼리로 조회 (일괄 생성 시 사용)
+    List<Tag> findAllByNameIn(Collection<String> names);
 }
\ No newline at end of file
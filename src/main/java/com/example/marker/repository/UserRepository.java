@@ -1,12 +1,54 @@
 package com.example.marker.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.marker.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // ID 순으로 이메일만 조회 (키셋 페이지네이션: 마지막으로 읽은 ID 이후부터 조회)
+    List<EmailOnly> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 북마크 목록의 마지막 변경 시각 (목록 조회의 조건부 요청에 사용, 기본 키 조회 한 번)
+    @Query("SELECT u.bookmarksModifiedAt FROM User u WHERE u.id = :userId")
+    Optional<Long> findBookmarksModifiedAt(@Param("userId") Long userId);
+
+    // 북마크 목록의 변경 시각을 올림. Last-Modified는 초 단위이므로 같은 초 안의 변경도 구분되도록 항상 1초 이상 올림
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.bookmarksModifiedAt = CASE "
+            + "WHEN u.bookmarksModifiedAt IS NULL OR u.bookmarksModifiedAt < :now THEN :now "
+            + "ELSE u.bookmarksModifiedAt + 1000 END "
+            + "WHERE u.id = :userId")
+    int touchBookmarksModifiedAt(@Param("userId") Long userId, @Param("now") long now);
+
+    // 여러 사용자의 북마크 목록 변경 시각을 한 번에 조회 (캐시 워밍업 중에 커밋된 변경을 확인하는 데 사용)
+    List<BookmarksModifiedAtOnly> findBookmarksModifiedAtByIdIn(Collection<Long> ids);
+
+    /**
+     * 사용자 엔티티 전체 대신 ID와 이메일만 조회하기 위한 프로젝션입니다.
+     */
+    interface EmailOnly {
+        Long getId();
+        String getEmail();
+    }
+
+    /**
+     * 사용자 엔티티 전체 대신 ID와 북마크 목록 변경 시각만 조회하기 위한 프로젝션입니다.
+     */
+    interface BookmarksModifiedAtOnly {
+        Long getId();
+        Long getBookmarksModifiedAt();
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.marker.security;
 
 import com.example.marker.constants.JwtConstants;
+import com.example.marker.metrics.RequestTimings;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,22 +20,39 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    // 토큰 검증 시간 (요청마다 Tag를 만들지 않도록 결과별 Timer를 미리 등록)
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   TokenRevocationRegistry tokenRevocationRegistry,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.validTokenTimer = verificationTimer(meterRegistry, "valid");
+        this.invalidTokenTimer = verificationTimer(meterRegistry, "invalid");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        String token = resolveToken(request);
-        
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
+        String token = JwtTokenProvider.resolveBearerToken(request.getHeader(JwtConstants.AUTHORIZATION_HEADER));
+
+        // 토큰을 한 번만 파싱하여 검증과 사용자 ID 추출을 함께 처리
+        Optional<VerifiedToken> verifiedToken = StringUtils.hasText(token) ? verify(token) : Optional.empty();
+
+        // Access 토큰만 인증에 사용하며, 폐기 여부는 메모리에서만 확인 (요청마다 DB를 조회하지 않음)
+        if (verifiedToken.isPresent()
+                && verifiedToken.get().getType() == TokenType.ACCESS
+                && !tokenRevocationRegistry.isRevoked(verifiedToken.get().getTokenId())) {
+            Long userId = verifiedToken.get().getUserId();
 
             // DB를 조회하는 대신, 토큰에서 얻은 사용자 ID를 principal로 사용하여 Authentication 객체 생성
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -44,11 +67,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader(JwtConstants.AUTHORIZATION_HEADER);
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(JwtConstants.BEARER_PREFIX)) {
-            return bearerToken.substring(JwtConstants.BEARER_PREFIX_LENGTH);
+    private Optional<VerifiedToken> verify(String token) {
+        RequestTimings requestTimings = RequestTimings.current();
+        if (requestTimings != null) {
+            requestTimings.start(RequestTimings.Stage.AUTH);
+        }
+        long start = System.nanoTime();
+        Optional<VerifiedToken> verifiedToken = jwtTokenProvider.verify(token);
+        (verifiedToken.isPresent() ? validTokenTimer : invalidTokenTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (requestTimings != null) {
+            requestTimings.stop(RequestTimings.Stage.AUTH);
         }
-        return null;
+        return verifiedToken;
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("marker.jwt.verification")
+                .description("Time spent verifying bearer tokens")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -1,66 +1,148 @@
 package com.example.marker.security;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.example.marker.constants.JwtConstants;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
-    @Value("${jwt.token-validity-in-milliseconds}")
-    private long tokenValidityInMilliseconds;
+    private static final String TOKEN_TYPE_CLAIM = "typ";
 
-    private Key key;
+    private final long tokenValidityInMilliseconds;
+    private final long refreshTokenValidityInMilliseconds;
+    private final Key key;
+    private final JwtParser jwtParser; // 불변 객체이므로 모든 요청에서 공유 (thread-safe)
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    @PostConstruct
-    protected void init() {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.token-validity-in-milliseconds}") long tokenValidityInMilliseconds,
+                            @Value("${jwt.refresh-token-validity-in-milliseconds}") long refreshTokenValidityInMilliseconds,
+                            @Value("${jwt.verified-token-cache-size:10000}") int verifiedTokenCacheSize) {
         byte[] keyBytes = Base64.getDecoder().decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheSize);
+    }
+
+    /**
+     * API 호출에 사용할 짧은 수명의 Access 토큰을 발급합니다.
+     */
+    public String createAccessToken(Long userId) {
+        return createToken(userId, TokenType.ACCESS, tokenValidityInMilliseconds);
+    }
+
+    /**
+     * Access 토큰 재발급에 사용할 Refresh 토큰을 발급합니다.
+     */
+    public String createRefreshToken(Long userId) {
+        return createToken(userId, TokenType.REFRESH, refreshTokenValidityInMilliseconds);
     }
 
-    public String createToken(Long userId) {
+    /**
+     * Authorization 헤더 값에서 Bearer 토큰을 추출합니다.
+     * @param authorizationHeader Authorization 헤더 값
+     * @return 토큰. Bearer 형식이 아니면 null
+     */
+    public static String resolveBearerToken(String authorizationHeader) {
+        if (StringUtils.hasText(authorizationHeader) && authorizationHeader.startsWith(JwtConstants.BEARER_PREFIX)) {
+            return authorizationHeader.substring(JwtConstants.BEARER_PREFIX_LENGTH);
+        }
+        return null;
+    }
+
+    private String createToken(Long userId, TokenType type, long validityInMilliseconds) {
         Date now = new Date();
-        Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
+        Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 토큰 폐기 시 식별자로 사용
                 .setSubject(String.valueOf(userId))
+                .claim(TOKEN_TYPE_CLAIM, type.name().toLowerCase(Locale.ROOT))
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 서명과 만료 시간을 검증하고, 사용자 정보를 추출합니다.
+     * 이미 검증한 토큰은 만료될 때까지 캐시된 결과를 사용하므로 서명 검증을 다시 하지 않습니다.
+     * 토큰의 용도(Access/Refresh)와 폐기 여부는 호출 측에서 확인해야 합니다.
+     * @param token 검증할 JWT
+     * @return 검증된 토큰 정보. 유효하지 않은 토큰이면 빈 Optional
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokenCache.get(digest, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            String tokenType = claims.get(TOKEN_TYPE_CLAIM, String.class);
+            if (claims.getId() == null || tokenType == null) {
+                // 폐기할 수 없는 (jti가 없는) 토큰이나 용도를 알 수 없는 토큰은 받지 않음
+                throw new JwtException("Missing token id or type");
+            }
+            TokenType type = TokenType.valueOf(tokenType.toUpperCase(Locale.ROOT));
+            VerifiedToken verified = new VerifiedToken(Long.parseLong(claims.getSubject()), claims.getId(), type,
+                    claims.getExpiration().getTime());
+            verifiedTokenCache.put(digest, verified, now);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.parseLong(claims.getSubject());
+        return verify(token)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"))
+                .getUserId();
     }
 
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * 캐시 키로 사용할 토큰의 SHA-256 다이제스트를 계산합니다.
+     * 원본 토큰(인증 정보)을 메모리에 그대로 보관하지 않기 위함입니다.
+     */
+    private static String digest(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.info("Invalid JWT token: {}", e.getMessage());
-            return false;
+            // MessageDigest는 thread-safe하지 않으므로 호출마다 새로 생성
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
-}
\ No newline at end of file
+}
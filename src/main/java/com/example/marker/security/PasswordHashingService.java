@@ -0,0 +1,118 @@
+package com.example.marker.security;
+
+import com.example.marker.config.AsyncConfig;
+import com.example.marker.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해싱과 검증을 전용 Executor에서 수행하는 컴포넌트입니다.
+ * BCrypt 연산은 한 번에 수십~수백 ms의 CPU를 사용하므로, 요청 스레드에서 직접 실행하면
+ * 로그인이 몰릴 때 같은 노드의 다른 요청까지 느려집니다.
+ * 동시에 실행되는 해싱 수를 Executor 크기로 제한하고, 대기열이 가득 차거나 대기 시간이 길어지면
+ * 즉시 {@link TooManyRequestsException}을 던져 429 응답으로 처리되도록 합니다.
+ */
+@Component
+public class PasswordHashingService {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final AsyncTaskExecutor executor;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier(AsyncConfig.PASSWORD_HASHING_EXECUTOR) AsyncTaskExecutor executor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${marker.security.password.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.encodeTimer = hashingTimer(meterRegistry, "encode");
+        this.matchesTimer = hashingTimer(meterRegistry, "matches");
+        this.rejectedCounter = Counter.builder("marker.password.hashing.rejected")
+                .description("Password hashing requests rejected because the executor was saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호를 암호화합니다.
+     * @param rawPassword 평문 비밀번호
+     * @return 암호화된 비밀번호
+     * @throws TooManyRequestsException 해싱 Executor가 포화 상태일 경우
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 평문 비밀번호가 암호화된 비밀번호와 일치하는지 검증합니다.
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 암호화 비밀번호
+     * @return 일치 여부
+     * @throws TooManyRequestsException 해싱 Executor가 포화 상태일 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 저장된 비밀번호가 현재 설정된 작업 계수보다 약하게 해싱되어 다시 해싱해야 하는지 확인합니다.
+     * (해시 문자열만 검사하므로 요청 스레드에서 바로 실행)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("Too many authentication requests. Please retry later.", RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("Too many authentication requests. Please retry later.", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer hashingTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("marker.password.hashing")
+                .description("Time spent hashing or verifying passwords")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
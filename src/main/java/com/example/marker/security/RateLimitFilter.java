@@ -0,0 +1,120 @@
+package com.example.marker.security;
+
+import com.example.marker.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 사용자 또는 IP별로 요청 처리량을 제한하는 필터입니다.
+ * JwtAuthenticationFilter 다음에 실행되어, 인증된 요청은 토큰의 사용자 ID로, 인증 API(/auth/**)와
+ * 인증되지 않은 요청은 클라이언트 IP로 버킷을 구분합니다.
+ * 제한을 넘은 요청은 컨트롤러까지 가지 않고 429 Too Many Requests와 Retry-After 헤더로 응답합니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PATTERN = "/auth/**";
+    private static final String DEFAULT_ROUTE_ID = "default";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final RateLimiter rateLimiter;
+    private final List<CompiledRoute> routes;
+    private final RateLimiter.Limit defaultLimit;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.rateLimiter = new RateLimiter(properties.getMaxBuckets());
+        this.defaultLimit = RateLimiter.Limit.of(properties.getDefaultLimit().getCapacity(), properties.getDefaultLimit().getRefillPerSecond());
+        List<RateLimitProperties.Route> configuredRoutes = properties.getRoutes();
+        this.routes = IntStream.range(0, configuredRoutes.size())
+                .mapToObj(i -> CompiledRoute.of(i, configuredRoutes.get(i)))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        CompiledRoute route = findRoute(request.getMethod(), path);
+        String routeId = route != null ? route.id() : DEFAULT_ROUTE_ID;
+        RateLimiter.Limit limit = route != null ? route.limit() : defaultLimit;
+
+        String key = routeId + "|" + clientKey(request, path);
+        long waitNanos = rateLimiter.tryAcquire(key, limit, System.nanoTime());
+        if (waitNanos > 0) {
+            reject(request, response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledRoute findRoute(String method, String path) {
+        for (CompiledRoute route : routes) {
+            if ((route.method() == null || route.method().equalsIgnoreCase(method)) && pathMatcher.match(route.pattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // 인증 API는 아직 사용자를 알 수 없으므로 IP 기준, 그 외에는 인증된 사용자 ID 기준으로 제한
+    // 프록시 뒤에서는 server.forward-headers-strategy 설정에 따라 신뢰하는 프록시의 X-Forwarded-For 값이 remoteAddr로 반영됨
+    private String clientKey(HttpServletRequest request, String path) {
+        if (!pathMatcher.match(AUTH_PATH_PATTERN, path)) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Please retry later.", request.getRequestURI());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private record CompiledRoute(String id, String pattern, String method, RateLimiter.Limit limit) {
+
+        static CompiledRoute of(int index, RateLimitProperties.Route route) {
+            return new CompiledRoute("route" + index, route.getPattern(),
+                    StringUtils.hasText(route.getMethod()) ? route.getMethod() : null,
+                    RateLimiter.Limit.of(route.getCapacity(), route.getRefillPerSecond()));
+        }
+    }
+}
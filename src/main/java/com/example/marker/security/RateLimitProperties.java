@@ -0,0 +1,45 @@
+package com.example.marker.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 처리량 제한(rate limit) 설정입니다. (marker.rate-limit.*)
+ * 경로별 제한은 목록 순서대로 비교하여 처음 일치하는 항목을 사용하고, 일치하는 항목이 없으면 기본 제한을 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "marker.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 동시에 유지할 최대 버킷 수 (사용자/IP와 경로 조합별로 하나씩 생성)
+    private int maxBuckets = 100_000;
+
+    private Limit defaultLimit = new Limit(200, 100);
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;           // 순간적으로 허용할 최대 요청 수 (버킷 크기)
+        private double refillPerSecond; // 초당 보충되는 요청 수 (지속 처리량)
+    }
+
+    @Getter
+    @Setter
+    public static class Route extends Limit {
+        private String pattern; // Ant 스타일 경로 패턴 (예: /bookmarks/**)
+        private String method;  // HTTP 메소드 (비워 두면 모든 메소드)
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.marker.security;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(사용자 또는 IP)별 토큰 버킷을 관리하는 처리량 제한기입니다.
+ * 버킷은 GCRA(Generic Cell Rate Algorithm) 방식으로 구현하여 "다음 요청이 허용되는 이론적 시각(TAT)" 하나만
+ * AtomicLong으로 보관합니다. 토큰 보충은 요청이 들어올 때 시간 차이로 계산하므로(lazy refill) 별도의 타이머가 없고,
+ * CAS로만 갱신하므로 락을 사용하지 않습니다.
+ * 버킷 수가 최대치에 도달하면 가득 찬(오래 사용되지 않은) 버킷을 먼저 제거합니다. 가득 찬 버킷은 새로 만든 버킷과 같으므로
+ * 제거해도 제한 결과가 달라지지 않습니다.
+ */
+public class RateLimiter {
+
+    private final int maxBuckets;
+    private final ConcurrentHashMap<String, AtomicLong> buckets;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public RateLimiter(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+        this.buckets = new ConcurrentHashMap<>(Math.max(16, Math.min(maxBuckets, 1024)));
+    }
+
+    /**
+     * 요청 하나를 허용할지 판단합니다.
+     * @param key 버킷 키
+     * @param limit 적용할 제한
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     * @return 허용하면 0, 거부하면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key, Limit limit, long nowNanos) {
+        AtomicLong theoreticalArrival = bucket(key, nowNanos);
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long newTat = Math.max(tat, nowNanos) + limit.emissionIntervalNanos();
+            long waitNanos = newTat - limit.burstToleranceNanos() - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            sweep(nowNanos);
+        }
+        AtomicLong created = new AtomicLong(nowNanos);
+        AtomicLong existing = buckets.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    private void sweep(long nowNanos) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return; // 다른 스레드가 정리 중
+        }
+        try {
+            buckets.values().removeIf(tat -> tat.get() - nowNanos <= 0);
+            int toRemove = buckets.size() - maxBuckets / 2;
+            Iterator<String> iterator = buckets.keySet().iterator();
+            while (toRemove-- > 0 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * 버킷 크기와 보충 속도를 GCRA 계산에 맞게 변환한 제한입니다.
+     * @param emissionIntervalNanos 토큰 하나가 보충되는 간격
+     * @param burstToleranceNanos 버킷 크기만큼의 요청이 누적될 수 있는 시간
+     */
+    public record Limit(long emissionIntervalNanos, long burstToleranceNanos) {
+
+        public static Limit of(int capacity, double refillPerSecond) {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+            }
+            long interval = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+            return new Limit(interval, interval * capacity);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.marker.security;
+
+import com.example.marker.cache.CacheInvalidationBus;
+import com.example.marker.cache.CacheInvalidationMessage;
+import com.example.marker.repository.UserRepository;
+import com.example.marker.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 가입된 이메일을 블룸 필터로 관리하는 컴포넌트입니다.
+ * 처음 보는 이메일로 들어오는 회원가입 요청은 중복 확인 쿼리를 생략하고, "가입되었을 수 있음"인 경우에만 DB를 확인합니다.
+ * - 기동 시 DB의 모든 이메일을 읽어 필터를 채우며, 적재가 끝나기 전에는 항상 "가입되었을 수 있음"으로 답합니다.
+ * - 새로 가입한 이메일은 캐시 무효화 버스를 통해 다른 노드의 필터에도 추가됩니다.
+ * 다른 노드의 전파가 늦거나 AuthService.signup을 거치지 않고 등록된 사용자는 필터에 없을 수 있으므로,
+ * "가입되지 않음"이라는 답은 참고용입니다. 결과가 틀려도 안전한 곳(이메일 unique 제약 조건으로 최종 판단하는 회원가입)에서만 사용하며,
+ * 로그인처럼 잘못 거부하면 안 되는 요청은 필터 결과와 관계없이 DB를 확인합니다.
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    public static final String REGISTERED_EMAIL_REGION = "registered-email";
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final int LOAD_PAGE_SIZE = 1_000;
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final BloomFilter bloomFilter;
+    private volatile boolean loaded;
+
+    public RegisteredEmailFilter(UserRepository userRepository,
+                                 CacheInvalidationBus cacheInvalidationBus,
+                                 @Value("${marker.security.email-filter.expected-users:1000000}") long expectedUsers) {
+        this.userRepository = userRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.bloomFilter = BloomFilter.create(expectedUsers, FALSE_POSITIVE_PROBABILITY);
+        // 적재 중에 다른 노드에서 가입한 이메일도 놓치지 않도록 적재 전에 구독
+        cacheInvalidationBus.subscribe(this::applyRemoteRegistration);
+    }
+
+    /**
+     * 기동 시 가입된 모든 이메일을 ID 순으로 나누어 읽어 필터에 추가합니다.
+     */
+    @PostConstruct
+    public void load() {
+        long count = 0;
+        Long lastId = 0L;
+        List<UserRepository.EmailOnly> page;
+        do {
+            page = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (UserRepository.EmailOnly user : page) {
+                bloomFilter.put(normalize(user.getEmail()));
+                lastId = user.getId();
+            }
+            count += page.size();
+        } while (page.size() == LOAD_PAGE_SIZE);
+        loaded = true;
+        log.info("Loaded {} registered email(s) into the email filter.", count);
+    }
+
+    /**
+     * 이메일이 가입되어 있을 가능성이 있는지 확인합니다. DB를 조회하지 않습니다.
+     * @param email 확인할 이메일
+     * @return false이면 이 노드가 알고 있는 범위에서 가입되지 않은 이메일
+     */
+    public boolean mightBeRegistered(String email) {
+        return !loaded || bloomFilter.mightContain(normalize(email));
+    }
+
+    /**
+     * 새로 가입한 이메일을 필터에 추가하고 다른 노드에도 전파합니다.
+     * @param email 가입한 이메일
+     */
+    public void register(String email) {
+        String normalized = normalize(email);
+        bloomFilter.put(normalized);
+        cacheInvalidationBus.publish(REGISTERED_EMAIL_REGION, normalized);
+    }
+
+    private void applyRemoteRegistration(CacheInvalidationMessage message) {
+        if (REGISTERED_EMAIL_REGION.equals(message.getRegion())) {
+            message.getKeys().forEach(bloomFilter::put);
+        }
+    }
+
+    // 대소문자만 다른 이메일은 같은 값으로 취급 (오탐이 늘어날 뿐 누락은 생기지 않음)
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
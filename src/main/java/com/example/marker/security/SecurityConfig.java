@@ -1,6 +1,8 @@
 package com.example.marker.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,14 +15,20 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
+    /**
+     * BCrypt 작업 계수(strength)는 설정으로 변경할 수 있습니다.
+     * 작업 계수를 올리면 기존 사용자의 비밀번호는 다음 로그인 시 새 작업 계수로 다시 해싱됩니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${marker.security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -36,6 +44,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authz -> authz
                         // 인증 없이 접근 허용할 경로들
                         .requestMatchers("/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/h2-console/**").permitAll()
+                        // 상태 확인과 메트릭 수집(Prometheus)은 토큰 없이 접근 (외부 노출은 배포 환경의 네트워크 설정으로 제한)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -47,7 +57,10 @@ public class SecurityConfig {
                 .headers(headers -> headers.cacheControl(cache -> cache.disable()))
 
                 // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 앞에 추가
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // 요청 처리량 제한 필터를 JWT 인증 필터 다음에 추가 (인증된 사용자 ID를 버킷 키로 사용하기 위함)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,152 @@
+package com.example.marker.security;
+
+import com.example.marker.cache.CacheInvalidationBus;
+import com.example.marker.cache.CacheInvalidationMessage;
+import com.example.marker.domain.RevokedToken;
+import com.example.marker.repository.RevokedTokenRepository;
+import com.example.marker.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 폐기된 토큰(jti)을 관리하는 컴포넌트입니다.
+ * 요청마다 DB를 조회하지 않도록 메모리에 두 단계의 자료구조를 유지합니다.
+ * - 블룸 필터: 폐기되지 않은 토큰(대부분의 요청)은 여기서 바로 통과합니다.
+ * - 정확한 집합: 블룸 필터가 "폐기되었을 수 있음"이라고 답한 경우에만 확인합니다.
+ * 폐기 기록은 DB에도 저장되어 기동 시 메모리 상태를 복원하는 데 사용되며,
+ * 캐시 무효화 버스를 통해 다른 노드에도 전파됩니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    public static final String REVOCATION_REGION = "token-revocation";
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final long expectedRevocations;
+    private final long purgeIntervalMillis;
+
+    private final ConcurrentHashMap<String, Long> expiresAtByTokenId = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgeMillis = new AtomicLong(System.currentTimeMillis());
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository,
+                                   CacheInvalidationBus cacheInvalidationBus,
+                                   @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                                   @Value("${jwt.revocation.purge-interval-ms:3600000}") long purgeIntervalMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.expectedRevocations = expectedRevocations;
+        this.purgeIntervalMillis = purgeIntervalMillis;
+        this.bloomFilter = BloomFilter.create(expectedRevocations, FALSE_POSITIVE_PROBABILITY);
+        cacheInvalidationBus.subscribe(this::applyRemoteRevocation);
+    }
+
+    /**
+     * 기동 시 DB에 저장된 (아직 만료되지 않은) 폐기 기록으로 메모리 상태를 복원합니다.
+     */
+    @PostConstruct
+    public void load() {
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findAllByExpiresAtAfter(Instant.now());
+        revokedTokens.forEach(token -> addLocally(token.getTokenId(), token.getExpiresAt().toEpochMilli()));
+        log.info("Loaded {} revoked token(s).", revokedTokens.size());
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. DB를 조회하지 않습니다.
+     * @param tokenId 토큰의 jti
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(String tokenId) {
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return expiresAtByTokenId.containsKey(tokenId);
+    }
+
+    /**
+     * 토큰을 폐기합니다. DB에 기록하고 다른 노드에도 전파합니다.
+     * 폐기 여부는 tokenId unique 제약 조건으로 판단하므로, 여러 요청(또는 여러 노드)이 같은 토큰을 동시에 폐기해도
+     * 실제로 기록에 성공한 한 요청만 true를 반환합니다.
+     * @param token 폐기할 (검증된) 토큰
+     * @return 이번 호출로 폐기 기록이 추가되었는지 여부 (이미 폐기된 토큰이면 false)
+     */
+    public boolean revoke(VerifiedToken token) {
+        if (expiresAtByTokenId.containsKey(token.getTokenId())) {
+            return false;
+        }
+        try {
+            revokedTokenRepository.saveAndFlush(RevokedToken.builder()
+                    .tokenId(token.getTokenId())
+                    .userId(token.getUserId())
+                    .expiresAt(Instant.ofEpochMilli(token.getExpiresAtMillis()))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 폐기한 경우 (해당 요청의 전파가 아직 도착하지 않았을 수 있으므로 메모리에도 반영)
+            addLocally(token.getTokenId(), token.getExpiresAtMillis());
+            return false;
+        }
+        addLocally(token.getTokenId(), token.getExpiresAtMillis());
+        cacheInvalidationBus.publish(REVOCATION_REGION, token.getTokenId() + ":" + token.getExpiresAtMillis());
+        purgeIfDue();
+        return true;
+    }
+
+    private void applyRemoteRevocation(CacheInvalidationMessage message) {
+        if (!REVOCATION_REGION.equals(message.getRegion())) {
+            return;
+        }
+        for (String key : message.getKeys()) {
+            int separator = key.lastIndexOf(':');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                addLocally(key.substring(0, separator), Long.parseLong(key.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed token revocation: {}", key);
+            }
+        }
+    }
+
+    private void addLocally(String tokenId, long expiresAtMillis) {
+        expiresAtByTokenId.put(tokenId, expiresAtMillis);
+        BloomFilter filter = bloomFilter;
+        filter.put(tokenId);
+        if (filter != bloomFilter) {
+            bloomFilter.put(tokenId); // 정리 중에 필터가 교체된 경우 새 필터에도 반영
+        }
+    }
+
+    /**
+     * 정리 주기가 지났으면 만료된 폐기 기록을 메모리와 DB에서 제거합니다.
+     * 블룸 필터는 원소를 제거할 수 없으므로 남은 기록으로 새 필터를 만들어 교체합니다.
+     * 한 번에 하나의 스레드만 정리를 수행합니다.
+     */
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        long last = lastPurgeMillis.get();
+        if (now - last < purgeIntervalMillis || !lastPurgeMillis.compareAndSet(last, now)) {
+            return;
+        }
+        expiresAtByTokenId.values().removeIf(expiresAt -> expiresAt <= now);
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedRevocations, 2L * expiresAtByTokenId.size()), FALSE_POSITIVE_PROBABILITY);
+        expiresAtByTokenId.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // 새 필터를 만드는 사이에 추가된 항목이 빠지지 않도록 한 번 더 반영
+        expiresAtByTokenId.keySet().forEach(rebuilt::put);
+
+        int deleted = revokedTokenRepository.deleteExpired(Instant.ofEpochMilli(now));
+        log.debug("Purged {} expired token revocation(s).", deleted);
+    }
+}
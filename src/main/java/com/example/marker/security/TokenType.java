@@ -0,0 +1,9 @@
+package com.example.marker.security;
+
+/**
+ * JWT의 용도를 구분합니다. 토큰의 "typ" 클레임에 소문자로 기록됩니다.
+ */
+public enum TokenType {
+    ACCESS,   // API 호출에 사용하는 짧은 수명의 토큰
+    REFRESH   // Access 토큰 재발급에만 사용하는 긴 수명의 토큰
+}
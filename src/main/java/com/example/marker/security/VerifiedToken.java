@@ -0,0 +1,22 @@
+package com.example.marker.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명 검증을 마친 JWT에서 추출한 정보입니다.
+ * 같은 토큰으로 반복되는 요청은 이 정보를 재사용하여 서명 검증을 생략합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String tokenId; // jti 클레임 (토큰 폐기 여부 확인에 사용)
+    private final TokenType type;
+    private final long expiresAtMillis;
+
+    public boolean isExpiredAt(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.marker.security;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 다이제스트를 키로 검증 결과({@link VerifiedToken})를 보관하는 크기 제한 캐시입니다.
+ * 최대 크기에 도달하면 만료된 항목을 먼저 제거하고, 그래도 가득 차 있으면 절반가량을 임의로 비웁니다.
+ * 별도의 락 없이 ConcurrentHashMap만 사용하므로 요청 처리 경로에서 경합이 발생하지 않습니다.
+ */
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, VerifiedToken> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(Math.max(16, Math.min(maxSize, 1024)));
+    }
+
+    VerifiedToken get(String digest, long nowMillis) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        VerifiedToken token = entries.get(digest);
+        if (token != null && token.isExpiredAt(nowMillis)) {
+            entries.remove(digest, token);
+            return null;
+        }
+        return token;
+    }
+
+    void put(String digest, VerifiedToken token, long nowMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict(nowMillis);
+        }
+        entries.put(digest, token);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long nowMillis) {
+        entries.values().removeIf(token -> token.isExpiredAt(nowMillis));
+        int toRemove = entries.size() - maxSize / 2;
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
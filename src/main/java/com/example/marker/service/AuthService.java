@@ -5,69 +5,134 @@ import com.example.marker.dto.AuthLoginRequest;
 import com.example.marker.dto.AuthLoginResponse;
 import com.example.marker.dto.AuthSignupRequest;
 import com.example.marker.exception.InvalidCredentialsException;
+import com.example.marker.exception.InvalidTokenException;
 import com.example.marker.exception.UserAlreadyExistsException;
 import com.example.marker.repository.UserRepository;
+import com.example.marker.exception.TooManyRequestsException;
 import com.example.marker.security.JwtTokenProvider;
+import com.example.marker.security.PasswordHashingService;
+import com.example.marker.security.RegisteredEmailFilter;
+import com.example.marker.security.TokenRevocationRegistry;
+import com.example.marker.security.TokenType;
+import com.example.marker.security.VerifiedToken;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+/**
+ * 회원가입, 로그인, 토큰 재발급 및 폐기를 처리하는 서비스입니다.
+ * BCrypt 해싱은 수백 ms가 걸릴 수 있으므로 트랜잭션(DB 커넥션)을 잡은 채로 수행하지 않습니다.
+ * 이 클래스의 메서드는 트랜잭션을 열지 않으며, 조회와 저장은 각각 Repository의 짧은 트랜잭션에서 수행됩니다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final BookmarkCacheWarmupService bookmarkCacheWarmupService;
 
     /**
      * 새로운 사용자를 등록합니다.
      * @param request 회원가입 요청 DTO
      * @return 등록된 사용자의 ID
      * @throws UserAlreadyExistsException 이미 존재하는 이메일일 경우
+     * @throws TooManyRequestsException 비밀번호 해싱 요청이 몰려 처리할 수 없을 경우
      */
-    @Transactional
     public Long signup(AuthSignupRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
+        // 이미 가입되었을 가능성이 있는 이메일만 DB에서 확인하여, 중복 가입 시 비밀번호 해싱 비용을 아낌
+        if (registeredEmailFilter.mightBeRegistered(request.getEmail()) && userRepository.existsByEmail(request.getEmail())) {
             throw new UserAlreadyExistsException(request.getEmail());
         }
 
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword())) // 비밀번호 암호화
+                .password(passwordHashingService.encode(request.getPassword())) // 비밀번호 암호화 (전용 Executor에서 수행)
                 .build();
-        userRepository.save(user);
+        try {
+            // 중복 여부는 이메일 unique 제약 조건으로 판단 (동시 가입 요청도 한 번의 INSERT로 처리)
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyExistsException(request.getEmail());
+        }
+        registeredEmailFilter.register(request.getEmail());
         return user.getId();
     }
 
     /**
      * 사용자 로그인을 처리하고 JWT 토큰을 발급합니다.
+     * 저장된 비밀번호가 현재 작업 계수보다 약하게 해싱되어 있으면 새 작업 계수로 다시 해싱하여 저장합니다.
      * @param request 로그인 요청 DTO
      * @return JWT 토큰을 포함한 로그인 응답 DTO
      * @throws InvalidCredentialsException 이메일 또는 비밀번호가 일치하지 않을 경우
+     * @throws TooManyRequestsException 비밀번호 해싱 요청이 몰려 처리할 수 없을 경우
      */
     public AuthLoginResponse login(AuthLoginRequest request) {
+        // 가입 이메일 필터는 다른 노드의 가입 전파가 늦거나 signup을 거치지 않고 등록된 사용자를 모를 수 있으므로,
+        // 필터에 없다는 이유로 로그인을 거부하지 않고 항상 DB에서 확인
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(InvalidCredentialsException::new);
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new InvalidCredentialsException();
         }
 
-        String token = jwtTokenProvider.createToken(user.getId());
-        return new AuthLoginResponse(token);
+        // 작업 계수가 변경된 경우, 평문 비밀번호를 알 수 있는 로그인 시점에 다시 해싱 (해싱이 끝난 뒤 저장만 트랜잭션에서 수행)
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            user.changePassword(passwordHashingService.encode(request.getPassword()));
+            userRepository.save(user);
+        }
+
+        AuthLoginResponse response = issueTokens(user.getId());
+        // 로그인 직후 조회될 가능성이 높은 북마크를 비동기로 캐시에 적재
+        bookmarkCacheWarmupService.warmUpAfterLogin(user.getId());
+        return response;
     }
 
     /**
-     * JWT 기반 인증에서는 서버 측 로그아웃은 일반적으로 토큰 무효화(블랙리스트)를 의미하지만,
-     * 이 프로젝트에서는 Refresh 토큰이나 복잡한 토큰 관리 로직이 없으므로,
-     * 클라이언트 측에서 토큰을 삭제하는 것으로 로그아웃을 처리합니다.
-     * 따라서 서버 측에서는 특별한 로직 없이 성공 응답을 반환합니다.
+     * Refresh 토큰으로 새 Access 토큰과 Refresh 토큰을 발급합니다.
+     * 사용한 Refresh 토큰은 즉시 폐기하므로(rotation) 같은 Refresh 토큰은 한 번만 사용할 수 있습니다.
+     * 같은 Refresh 토큰으로 동시에 재발급을 요청해도 폐기 기록에 성공한 한 요청만 새 토큰을 받습니다.
+     * @param refreshToken 로그인 또는 이전 재발급 시 받은 Refresh 토큰
+     * @return 새 토큰을 포함한 응답 DTO
+     * @throws InvalidTokenException 유효하지 않거나, 만료되었거나, 이미 폐기된 Refresh 토큰일 경우
      */
-    public void logout() {
-        // JWT는 Stateless하므로 서버에서 특별히 할 일은 없음.
-        // 클라이언트에서 토큰을 삭제하는 것으로 처리.
+    public AuthLoginResponse refresh(String refreshToken) {
+        VerifiedToken verified = jwtTokenProvider.verify(refreshToken)
+                .filter(token -> token.getType() == TokenType.REFRESH)
+                .filter(token -> !tokenRevocationRegistry.isRevoked(token.getTokenId()))
+                .orElseThrow(InvalidTokenException::new);
+
+        if (!tokenRevocationRegistry.revoke(verified)) {
+            throw new InvalidTokenException();
+        }
+        return issueTokens(verified.getUserId());
+    }
+
+    /**
+     * 로그아웃 시 전달된 Access 토큰과 Refresh 토큰을 폐기합니다.
+     * 폐기된 토큰은 만료 시간 전이라도 더 이상 인증이나 재발급에 사용할 수 없습니다.
+     * 유효하지 않거나 이미 폐기된 토큰은 더 이상 사용할 수 없으므로 무시합니다.
+     * @param accessToken Authorization 헤더의 Access 토큰 (없으면 null)
+     * @param refreshToken 폐기할 Refresh 토큰 (없으면 null)
+     */
+    public void logout(String accessToken, String refreshToken) {
+        revokeIfValid(accessToken);
+        revokeIfValid(refreshToken);
+    }
+
+    private void revokeIfValid(String token) {
+        if (!StringUtils.hasText(token)) {
+            return;
+        }
+        jwtTokenProvider.verify(token).ifPresent(tokenRevocationRegistry::revoke);
+    }
+
+    private AuthLoginResponse issueTokens(Long userId) {
+        return new AuthLoginResponse(jwtTokenProvider.createAccessToken(userId), jwtTokenProvider.createRefreshToken(userId));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,228 @@
+package com.example.marker.service;
+
+import com.example.marker.cache.BookmarkWatermarks;
+import com.example.marker.constants.CacheConstants;
+import com.example.marker.domain.Bookmark;
+import com.example.marker.domain.BookmarkTag;
+import com.example.marker.domain.Tag;
+import com.example.marker.domain.User;
+import com.example.marker.dto.BookmarkBatchCreateResponse;
+import com.example.marker.dto.BookmarkBatchCreateResponse.ItemResult;
+import com.example.marker.dto.BookmarkBulkDeleteResponse;
+import com.example.marker.dto.BookmarkCreateRequest;
+import com.example.marker.exception.ErrorResponse;
+import com.example.marker.exception.InvalidBulkDeleteCriteriaException;
+import com.example.marker.repository.BookmarkRepository;
+import com.example.marker.repository.BookmarkTagRepository;
+import com.example.marker.repository.TagRepository;
+import com.example.marker.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 북마크를 한 번에 생성하거나 삭제하는 서비스입니다.
+ * - 각 항목은 개별적으로 유효성을 검증하며, 유효하지 않은 항목은 건너뛰고 항목별 결과로 알려줍니다.
+ * - 모든 항목의 태그를 한 번에 조회하고, 없는 태그는 한 번에 생성합니다.
+ * - 북마크와 태그 연결은 시퀀스 기반 ID를 사용하므로 트랜잭션 종료 시 JDBC 배치 INSERT로 저장됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookmarkBatchService {
+
+    private static final int DELETE_CHUNK_SIZE = 500; // IN 절에 넣을 최대 ID 개수
+
+    private final BookmarkRepository bookmarkRepository;
+    private final TagRepository tagRepository;
+    private final UserRepository userRepository;
+    private final BookmarkTagRepository bookmarkTagRepository;
+    private final BookmarkService bookmarkService;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final BookmarkWatermarks bookmarkWatermarks;
+
+    /**
+     * 현재 로그인한 사용자의 북마크를 일괄 생성합니다.
+     * @param requests 생성할 북마크 목록
+     * @return 항목별 생성 결과
+     */
+    @Transactional
+    public BookmarkBatchCreateResponse createBookmarks(List<BookmarkCreateRequest> requests) {
+        return createBookmarksForUser(bookmarkService.getCurrentUserId(), requests);
+    }
+
+    /**
+     * 지정한 사용자의 북마크를 일괄 생성합니다. (인증 정보가 없는 백그라운드 작업에서도 사용)
+     * @param userId 북마크를 소유할 사용자 ID
+     * @param requests 생성할 북마크 목록
+     * @return 항목별 생성 결과
+     */
+    @Transactional
+    public BookmarkBatchCreateResponse createBookmarksForUser(Long userId, List<BookmarkCreateRequest> requests) {
+        ItemResult[] results = new ItemResult[requests.size()];
+        Map<Integer, BookmarkCreateRequest> validRequests = new HashMap<>();
+        Set<String> tagNames = new LinkedHashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            BookmarkCreateRequest request = requests.get(i);
+            List<ErrorResponse.FieldError> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = ItemResult.invalid(i, errors);
+                continue;
+            }
+            validRequests.put(i, request);
+            tagNames.addAll(normalizeTagNames(request.getTags()));
+        }
+
+        Map<String, Tag> tagsByName = resolveTags(tagNames);
+        // 외래 키만 필요하므로 사용자는 조회하지 않고 참조만 연결
+        User user = userRepository.getReferenceById(userId);
+
+        List<Integer> indexes = new ArrayList<>(validRequests.keySet());
+        indexes.sort(Comparator.naturalOrder());
+        List<Bookmark> bookmarks = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            BookmarkCreateRequest request = validRequests.get(index);
+            Bookmark bookmark = request.toEntity(user);
+            for (String tagName : normalizeTagNames(request.getTags())) {
+                bookmark.addBookmarkTag(BookmarkTag.builder()
+                        .bookmark(bookmark)
+                        .tag(tagsByName.get(tagName))
+                        .build());
+            }
+            bookmarks.add(bookmark);
+        }
+
+        // 시퀀스에서 미리 할당받은 ID가 즉시 부여되며, INSERT는 flush 시점에 배치로 실행됨
+        List<Bookmark> saved = bookmarkRepository.saveAll(bookmarks);
+        if (!saved.isEmpty()) {
+            bookmarkWatermarks.touch(userId);
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            results[indexes.get(i)] = ItemResult.created(indexes.get(i), saved.get(i).getId());
+        }
+
+        return new BookmarkBatchCreateResponse(saved.size(), requests.size() - saved.size(), Arrays.asList(results));
+    }
+
+    /**
+     * 현재 로그인한 사용자의 북마크를 조건에 따라 일괄 삭제합니다.
+     * 조건(ids, tagName, keyword) 중 정확히 하나를 지정해야 합니다.
+     * 대상 ID를 먼저 조회한 뒤, 일정 개수씩 나누어 태그 연결과 북마크를 각각 하나의 DELETE 문으로 삭제합니다.
+     * 삭제한 북마크의 캐시는 트랜잭션이 끝날 때 다른 노드에 한 번에 전파됩니다.
+     * @param ids 삭제할 북마크 ID 목록
+     * @param tagName 삭제할 북마크의 태그 이름
+     * @param keyword 삭제할 북마크의 제목 또는 URL 키워드
+     * @param dryRun true이면 삭제하지 않고 대상 개수만 반환
+     * @return 삭제 결과
+     * @throws InvalidBulkDeleteCriteriaException 조건을 지정하지 않았거나 둘 이상 지정한 경우
+     */
+    @Transactional
+    public BookmarkBulkDeleteResponse deleteBookmarks(List<Long> ids, String tagName, String keyword, boolean dryRun) {
+        Long userId = bookmarkService.getCurrentUserId();
+        List<Long> targetIds = findIdsToDelete(userId, ids, tagName, keyword);
+        if (dryRun || targetIds.isEmpty()) {
+            return new BookmarkBulkDeleteResponse(dryRun, targetIds.size(), 0);
+        }
+
+        int deleted = 0;
+        for (int from = 0; from < targetIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = targetIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, targetIds.size()));
+            bookmarkTagRepository.deleteByUserIdAndBookmarkIdIn(userId, chunk);
+            deleted += bookmarkRepository.deleteByUserIdAndIdIn(userId, chunk);
+        }
+
+        Cache cache = cacheManager.getCache(CacheConstants.BOOKMARK_CACHE);
+        if (cache != null) {
+            targetIds.forEach(id -> cache.evict(CacheConstants.bookmarkKey(userId, id)));
+        }
+        if (deleted > 0) {
+            bookmarkWatermarks.touch(userId);
+        }
+        return new BookmarkBulkDeleteResponse(false, targetIds.size(), deleted);
+    }
+
+    private List<Long> findIdsToDelete(Long userId, List<Long> ids, String tagName, String keyword) {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasTag = StringUtils.hasText(tagName);
+        boolean hasKeyword = StringUtils.hasText(keyword);
+        if ((hasIds ? 1 : 0) + (hasTag ? 1 : 0) + (hasKeyword ? 1 : 0) != 1) {
+            throw new InvalidBulkDeleteCriteriaException();
+        }
+
+        if (hasTag) {
+            return bookmarkRepository.findIdsByUserIdAndTagName(userId, tagName);
+        }
+        if (hasKeyword) {
+            return bookmarkRepository.findIdsByUserIdAndKeyword(userId, keyword);
+        }
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<Long> ownedIds = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+            ownedIds.addAll(bookmarkRepository.findIdsByUserIdAndIdIn(userId, distinctIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size()))));
+        }
+        return ownedIds;
+    }
+
+    /**
+     * 태그 이름 목록에 해당하는 태그를 한 번의 쿼리로 조회하고, 없는 태그는 한 번에 생성합니다.
+     * @param tagNames 태그 이름 목록
+     * @return 태그 이름별 태그 엔티티
+     */
+    public Map<String, Tag> resolveTags(Collection<String> tagNames) {
+        Map<String, Tag> tagsByName = new HashMap<>();
+        if (tagNames.isEmpty()) {
+            return tagsByName;
+        }
+        tagRepository.findAllByNameIn(tagNames).forEach(tag -> tagsByName.put(tag.getName(), tag));
+
+        List<Tag> newTags = tagNames.stream()
+                .filter(name -> !tagsByName.containsKey(name))
+                .map(name -> Tag.builder().name(name).build())
+                .toList();
+        tagRepository.saveAll(newTags).forEach(tag -> tagsByName.put(tag.getName(), tag));
+        return tagsByName;
+    }
+
+    private List<ErrorResponse.FieldError> validate(BookmarkCreateRequest request) {
+        if (request == null) {
+            return List.of(ErrorResponse.FieldError.builder()
+                    .field("bookmark")
+                    .reason("북마크 정보는 필수입니다.")
+                    .build());
+        }
+        Set<ConstraintViolation<BookmarkCreateRequest>> violations = validator.validate(request);
+        return violations.stream()
+                .map(violation -> ErrorResponse.FieldError.builder()
+                        .field(violation.getPropertyPath().toString())
+                        .value(violation.getInvalidValue() != null ? violation.getInvalidValue().toString() : null)
+                        .reason(violation.getMessage())
+                        .build())
+                .toList();
+    }
+
+    // 빈 태그 이름은 제외하고, 한 북마크 안에서 중복된 태그는 한 번만 연결
+    private static Set<String> normalizeTagNames(List<String> tagNames) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tagNames != null) {
+            tagNames.stream().filter(StringUtils::hasText).forEach(normalized::add);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.marker.service;
+
+import com.example.marker.cache.BookmarkWatermarks;
+import com.example.marker.cache.CacheWarmupRateLimiter;
+import com.example.marker.config.AsyncConfig;
+import com.example.marker.constants.CacheConstants;
+import com.example.marker.domain.Bookmark;
+import com.example.marker.repository.BookmarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 북마크 캐시를 미리 채워 두는(워밍업) 서비스입니다.
+ * - 로그인 성공 시: 해당 사용자가 최근 수정한 북마크를 비동기로 캐시에 적재합니다.
+ * - 애플리케이션 기동 시: 이전 실행 종료 시점에 저장한 캐시 키 스냅샷을 읽어 적재합니다.
+ * 모든 적재는 전용 단일 스레드 Executor에서 초당 허용량에 맞춰 수행되므로 실제 요청 처리와 경쟁하지 않습니다.
+ * 캐시에는 만료 시간이 없으므로, 조회와 적재 사이에 커밋된 변경(수정, 삭제)이 오래된 항목으로 남지 않도록
+ * 적재 후 소유자의 변경 시각(BookmarkWatermarks)이 조회 전과 달라졌으면 적재한 항목을 다시 제거합니다.
+ */
+@Slf4j
+@Service
+public class BookmarkCacheWarmupService {
+
+    private static final int LOAD_CHUNK_SIZE = 20; // 한 번의 쿼리로 적재할 북마크 수
+
+    private final BookmarkRepository bookmarkRepository;
+    private final CacheManager cacheManager;
+    private final BookmarkWatermarks bookmarkWatermarks;
+    private final CacheWarmupRateLimiter rateLimiter;
+    private final boolean enabled;
+    private final int loginPrefetchSize;
+    private final String snapshotFile;
+    private final int snapshotMaxKeys;
+
+    public BookmarkCacheWarmupService(BookmarkRepository bookmarkRepository,
+                                      CacheManager cacheManager,
+                                      BookmarkWatermarks bookmarkWatermarks,
+                                      @Value("${marker.cache.warmup.enabled:true}") boolean enabled,
+                                      @Value("${marker.cache.warmup.login-prefetch-size:20}") int loginPrefetchSize,
+                                      @Value("${marker.cache.warmup.rate-per-second:200}") double ratePerSecond,
+                                      @Value("${marker.cache.warmup.snapshot-file:}") String snapshotFile,
+                                      @Value("${marker.cache.warmup.snapshot-max-keys:10000}") int snapshotMaxKeys) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.cacheManager = cacheManager;
+        this.bookmarkWatermarks = bookmarkWatermarks;
+        this.enabled = enabled;
+        this.loginPrefetchSize = loginPrefetchSize;
+        this.rateLimiter = new CacheWarmupRateLimiter(ratePerSecond);
+        this.snapshotFile = snapshotFile;
+        this.snapshotMaxKeys = snapshotMaxKeys;
+    }
+
+    /**
+     * 로그인한 사용자가 최근 수정한 북마크를 캐시에 적재합니다.
+     * @param userId 로그인한 사용자의 ID
+     */
+    @Async(AsyncConfig.CACHE_WARMUP_EXECUTOR)
+    public void warmUpAfterLogin(Long userId) {
+        if (!enabled || loginPrefetchSize <= 0) {
+            return;
+        }
+        try {
+            List<Long> ids = bookmarkRepository.findRecentlyUpdatedIdsByUserId(userId, PageRequest.of(0, loginPrefetchSize));
+            Map<Long, Long> ownerByBookmarkId = new LinkedHashMap<>();
+            ids.forEach(id -> ownerByBookmarkId.put(id, userId));
+            load(ownerByBookmarkId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Cache warm-up for user {} failed: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 기동이 완료되면 이전 실행에서 저장한 캐시 키 스냅샷을 읽어 캐시에 적재합니다.
+     */
+    @Async(AsyncConfig.CACHE_WARMUP_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpFromSnapshot() {
+        if (!enabled || !StringUtils.hasText(snapshotFile)) {
+            return;
+        }
+        Path path = Path.of(snapshotFile);
+        if (!Files.isReadable(path)) {
+            return;
+        }
+        try {
+            Map<Long, Long> ownerByBookmarkId = readSnapshot(path);
+            load(ownerByBookmarkId);
+            log.info("Cache warm-up from snapshot finished: {} key(s) requested.", ownerByBookmarkId.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cache warm-up from snapshot {} failed: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시점에 현재 캐시에 들어 있는 키를 스냅샷 파일로 저장합니다.
+     * 캐시에 남아 있는 항목은 최근에 자주 조회된 항목이므로 다음 기동 시 워밍업 대상으로 사용합니다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void writeSnapshot() {
+        if (!enabled || !StringUtils.hasText(snapshotFile)) {
+            return;
+        }
+        Set<?> keys = cachedKeys();
+        if (keys == null) {
+            return;
+        }
+        Path path = Path.of(snapshotFile);
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            int written = 0;
+            for (Object key : keys) {
+                if (written++ >= snapshotMaxKeys) {
+                    break;
+                }
+                writer.write(String.valueOf(key));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write cache snapshot to {}: {}", path, e.getMessage());
+        }
+    }
+
+    // 로컬 캐시 구현(Caffeine 또는 ConcurrentMap)에 맞게 현재 캐시된 키 목록을 가져옴
+    private Set<?> cachedKeys() {
+        Cache cache = cacheManager.getCache(CacheConstants.BOOKMARK_CACHE);
+        if (cache == null) {
+            return null;
+        }
+        Object nativeCache = cache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            return caffeineCache.asMap().keySet();
+        }
+        if (nativeCache instanceof Map<?, ?> mapCache) {
+            return mapCache.keySet();
+        }
+        return null;
+    }
+
+    private Map<Long, Long> readSnapshot(Path path) throws IOException {
+        Map<Long, Long> ownerByBookmarkId = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null && ownerByBookmarkId.size() < snapshotMaxKeys) {
+                int separator = line.indexOf(':');
+                if (separator <= 0) {
+                    continue;
+                }
+                try {
+                    Long userId = Long.parseLong(line.substring(0, separator).trim());
+                    Long bookmarkId = Long.parseLong(line.substring(separator + 1).trim());
+                    ownerByBookmarkId.put(bookmarkId, userId);
+                } catch (NumberFormatException e) {
+                    // 형식이 잘못된 줄은 무시
+                }
+            }
+        }
+        return ownerByBookmarkId;
+    }
+
+    /**
+     * 북마크를 일정 개수씩 묶어 조회한 뒤 캐시에 적재합니다.
+     * 이미 캐시에 있는 항목은 더 최신일 수 있으므로 덮어쓰지 않습니다.
+     * 변경 트랜잭션의 캐시 제거가 조회와 적재 사이에 끝나면 적재가 오래된(또는 삭제된) 북마크를 다시 넣게 되므로,
+     * 적재한 뒤 소유자의 변경 시각을 다시 확인하여 조회 전과 다르면 그 소유자의 항목을 제거합니다.
+     */
+    private void load(Map<Long, Long> ownerByBookmarkId) throws InterruptedException {
+        Cache cache = cacheManager.getCache(CacheConstants.BOOKMARK_CACHE);
+        if (cache == null || ownerByBookmarkId.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(ownerByBookmarkId.keySet());
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+            rateLimiter.acquire(chunk.size());
+            Set<Long> owners = new HashSet<>();
+            chunk.forEach(id -> owners.add(ownerByBookmarkId.get(id)));
+            Map<Long, Long> watermarksBefore = bookmarkWatermarks.lastModified(owners);
+
+            Map<Long, List<String>> loadedKeysByOwner = new HashMap<>();
+            for (Bookmark bookmark : bookmarkRepository.findAllByIdInWithTags(chunk)) {
+                Long expectedOwner = ownerByBookmarkId.get(bookmark.getId());
+                // 캐시 키의 사용자와 실제 소유자가 같을 때만 적재 (권한 검사는 캐시 적재 전에 이루어져야 함)
+                if (bookmark.getUser().getId().equals(expectedOwner)) {
+                    String key = CacheConstants.bookmarkKey(expectedOwner, bookmark.getId());
+                    if (cache.putIfAbsent(key, bookmark) == null) {
+                        loadedKeysByOwner.computeIfAbsent(expectedOwner, owner -> new ArrayList<>()).add(key);
+                    }
+                }
+            }
+            if (!loadedKeysByOwner.isEmpty()) {
+                evictIfModified(cache, loadedKeysByOwner, watermarksBefore);
+            }
+        }
+    }
+
+    // 조회 이후 변경이 커밋된 소유자의 항목은 오래된 값일 수 있으므로 제거
+    private void evictIfModified(Cache cache, Map<Long, List<String>> loadedKeysByOwner, Map<Long, Long> watermarksBefore) {
+        Map<Long, Long> watermarksAfter = bookmarkWatermarks.lastModified(loadedKeysByOwner.keySet());
+        loadedKeysByOwner.forEach((owner, keys) -> {
+            if (!watermarksAfter.getOrDefault(owner, 0L).equals(watermarksBefore.getOrDefault(owner, 0L))) {
+                keys.forEach(cache::evict);
+            }
+        });
+    }
+}
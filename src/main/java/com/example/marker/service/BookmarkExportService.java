@@ -0,0 +1,82 @@
+package com.example.marker.service;
+
+import com.example.marker.dto.BookmarkExportRow;
+import com.example.marker.exporter.BookmarkExportFormat;
+import com.example.marker.exporter.BookmarkExportWriter;
+import com.example.marker.exporter.CsvBookmarkWriter;
+import com.example.marker.exporter.ExportedBookmark;
+import com.example.marker.exporter.NdjsonBookmarkWriter;
+import com.example.marker.exporter.NetscapeBookmarkWriter;
+import com.example.marker.repository.BookmarkRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 사용자의 모든 북마크를 파일(NDJSON, CSV, HTML)로 내보내는 서비스입니다.
+ * - 페이지 단위 조회(COUNT + 태그 N+1) 대신, 북마크와 태그 이름을 조인한 한 번의 쿼리 결과를 커서로 읽습니다.
+ * - 읽은 행은 북마크 단위로 묶어 바로 출력 스트림에 쓰므로, 북마크 수와 관계없이 일정한 메모리로 동작합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookmarkExportService {
+
+    private final BookmarkRepository bookmarkRepository;
+    private final BookmarkService bookmarkService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 현재 로그인한 사용자의 모든 북마크를 지정한 형식으로 출력 스트림에 씁니다.
+     * @param format 파일 형식
+     * @param out 출력 스트림 (닫지 않음)
+     */
+    public void exportBookmarks(BookmarkExportFormat format, OutputStream out) throws IOException {
+        Long userId = bookmarkService.getCurrentUserId();
+        BookmarkExportWriter writer = writer(format, out);
+        writer.begin();
+        try (Stream<BookmarkExportRow> rows = bookmarkRepository.streamExportRowsByUserId(userId)) {
+            Iterator<BookmarkExportRow> iterator = rows.iterator();
+            BookmarkExportRow first = iterator.hasNext() ? iterator.next() : null;
+            // 행은 북마크 ID 순서로 정렬되어 있으므로, ID가 바뀔 때마다 앞의 북마크를 씀
+            while (first != null) {
+                List<String> tags = new ArrayList<>();
+                addTag(tags, first);
+                BookmarkExportRow next = null;
+                while (iterator.hasNext()) {
+                    BookmarkExportRow row = iterator.next();
+                    if (!row.getId().equals(first.getId())) {
+                        next = row;
+                        break;
+                    }
+                    addTag(tags, row);
+                }
+                writer.write(new ExportedBookmark(first.getId(), first.getTitle(), first.getUrl(), first.getMemo(), first.getCreatedAt(), tags));
+                first = next;
+            }
+        }
+        writer.end();
+    }
+
+    private BookmarkExportWriter writer(BookmarkExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonBookmarkWriter(objectMapper.getFactory(), out);
+            case CSV -> new CsvBookmarkWriter(out);
+            case HTML -> new NetscapeBookmarkWriter(out);
+        };
+    }
+
+    private static void addTag(List<String> tags, BookmarkExportRow row) {
+        if (row.getTagName() != null) {
+            tags.add(row.getTagName());
+        }
+    }
+}
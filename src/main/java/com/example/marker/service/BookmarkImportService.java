@@ -0,0 +1,195 @@
+package com.example.marker.service;
+
+import com.example.marker.dto.BookmarkBatchCreateResponse;
+import com.example.marker.dto.BookmarkCreateRequest;
+import com.example.marker.dto.BookmarkImportResponse;
+import com.example.marker.exception.UnsupportedFormatException;
+import com.example.marker.importer.BookmarkImportFormat;
+import com.example.marker.importer.BookmarkImportParser;
+import com.example.marker.importer.JsonBookmarkParser;
+import com.example.marker.importer.NetscapeBookmarkParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 브라우저 북마크 파일(Netscape HTML) 또는 JSON/NDJSON 파일에서 북마크를 가져오는 서비스입니다.
+ * - 파일은 스트리밍으로 읽으므로 파일 크기와 관계없이 일정한 메모리로 동작합니다.
+ * - 읽은 북마크는 일정 개수(chunk)씩 모아 BookmarkBatchService로 저장하며, 청크마다 별도의 트랜잭션으로 커밋됩니다.
+ *   따라서 중간에 실패하더라도 이미 커밋된 청크는 유지됩니다.
+ * 이 서비스 자체는 트랜잭션을 열지 않습니다.
+ */
+@Slf4j
+@Service
+public class BookmarkImportService {
+
+    private static final int MAX_FIELD_LENGTH = 255; // 제목, 메모, 태그 이름 컬럼의 길이
+    private static final int SNIFF_LENGTH = 1024; // 형식을 추측하기 위해 미리 읽는 최대 바이트 수
+
+    private final BookmarkBatchService bookmarkBatchService;
+    private final BookmarkService bookmarkService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public BookmarkImportService(BookmarkBatchService bookmarkBatchService,
+                                 BookmarkService bookmarkService,
+                                 EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${marker.import.chunk-size:500}") int chunkSize) {
+        this.bookmarkBatchService = bookmarkBatchService;
+        this.bookmarkService = bookmarkService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 업로드된 파일에서 현재 로그인한 사용자의 북마크를 가져옵니다.
+     * @param in 파일 스트림 (닫지 않음)
+     * @param formatName 파일 형식 이름 (html, json, ndjson). 비어 있으면 파일 이름과 내용으로 추측
+     * @param filename 업로드된 파일 이름
+     * @return 가져오기 결과
+     * @throws UnsupportedFormatException 형식을 알 수 없거나 파일 내용이 형식에 맞지 않는 경우
+     */
+    public BookmarkImportResponse importBookmarks(InputStream in, String formatName, String filename) throws IOException {
+        Long userId = bookmarkService.getCurrentUserId();
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        BookmarkImportFormat format = resolveFormat(formatName, filename, buffered);
+        return importBookmarksForUser(userId, buffered, format);
+    }
+
+    /**
+     * 지정한 사용자의 북마크를 가져옵니다. (인증 정보가 없는 백그라운드 작업에서도 사용)
+     * @param userId 북마크를 소유할 사용자 ID
+     * @param in 파일 스트림 (닫지 않음)
+     * @param format 파일 형식
+     * @return 가져오기 결과
+     * @throws UnsupportedFormatException 파일 내용이 형식에 맞지 않는 경우
+     */
+    public BookmarkImportResponse importBookmarksForUser(Long userId, InputStream in, BookmarkImportFormat format) throws IOException {
+        int[] created = new int[1];
+        long total = forEachChunk(in, format, 0, chunk -> {
+            BookmarkBatchCreateResponse response = bookmarkBatchService.createBookmarksForUser(userId, chunk);
+            created[0] += response.getCreated();
+            // 청크가 커밋된 뒤에도 요청 범위의 영속성 컨텍스트(OSIV)에 엔티티가 쌓이지 않도록 비움
+            // 호출한 쪽의 트랜잭션에 참여한 경우에는 아직 flush되지 않은 변경이 있으므로 비우지 않음
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                entityManager.clear();
+            }
+        });
+        log.info("Imported {} of {} bookmark(s) for user {} from {}.", created[0], total, userId, format);
+        return new BookmarkImportResponse(format, (int) total, created[0], (int) total - created[0]);
+    }
+
+    /**
+     * 파일을 읽으며 북마크를 청크 크기만큼 모아 chunkHandler에 넘깁니다.
+     * 넘기는 북마크는 제목이 없으면 URL로 채우고, 컬럼 길이를 넘는 제목/메모/태그는 잘라 낸 값입니다.
+     * @param in 파일 스트림 (닫지 않음)
+     * @param format 파일 형식
+     * @param skip 앞에서부터 건너뛸 북마크 수 (이미 처리한 북마크부터 이어서 처리할 때 사용)
+     * @param chunkHandler 청크를 받을 콜백. 전달한 목록은 호출이 끝나면 재사용되므로 보관하면 안 됨
+     * @return 파일에서 읽은 전체 북마크 수 (건너뛴 북마크 포함)
+     * @throws UnsupportedFormatException 파일 내용이 형식에 맞지 않는 경우
+     */
+    public long forEachChunk(InputStream in, BookmarkImportFormat format, long skip,
+                             Consumer<List<BookmarkCreateRequest>> chunkHandler) throws IOException {
+        List<BookmarkCreateRequest> chunk = new ArrayList<>(chunkSize);
+        long[] total = new long[1];
+        try {
+            parser(format).parse(in, request -> {
+                if (total[0]++ < skip) {
+                    return;
+                }
+                chunk.add(sanitize(request));
+                if (chunk.size() >= chunkSize) {
+                    chunkHandler.accept(chunk);
+                    chunk.clear();
+                }
+            });
+        } catch (JsonProcessingException e) {
+            String line = e.getLocation() != null ? " at line " + e.getLocation().getLineNr() : "";
+            throw new UnsupportedFormatException("Malformed " + format + line + " after " + total[0]
+                    + " bookmark(s) were read: " + e.getOriginalMessage());
+        }
+        if (!chunk.isEmpty()) {
+            chunkHandler.accept(chunk);
+        }
+        return total[0];
+    }
+
+    private BookmarkImportParser parser(BookmarkImportFormat format) {
+        return switch (format) {
+            case HTML -> new NetscapeBookmarkParser();
+            case JSON -> new JsonBookmarkParser(objectMapper.getFactory());
+        };
+    }
+
+    /**
+     * 명시한 형식 이름, 파일 확장자, 파일 앞부분 내용 순서로 형식을 결정합니다.
+     */
+    BookmarkImportFormat resolveFormat(String formatName, String filename, BufferedInputStream in) throws IOException {
+        if (StringUtils.hasText(formatName)) {
+            return BookmarkImportFormat.fromName(formatName)
+                    .orElseThrow(() -> new UnsupportedFormatException("Unsupported import format: " + formatName));
+        }
+        Optional<BookmarkImportFormat> byFilename = BookmarkImportFormat.fromFilename(filename);
+        if (byFilename.isPresent()) {
+            return byFilename.get();
+        }
+
+        in.mark(SNIFF_LENGTH);
+        try {
+            for (int i = 0; i < SNIFF_LENGTH; i++) {
+                int b = in.read();
+                if (b == '<') {
+                    return BookmarkImportFormat.HTML;
+                }
+                if (b == '{' || b == '[') {
+                    return BookmarkImportFormat.JSON;
+                }
+                // 공백과 UTF-8 BOM(EF BB BF)은 건너뜀
+                if (b == -1 || !(Character.isWhitespace(b) || b == 0xEF || b == 0xBB || b == 0xBF)) {
+                    break;
+                }
+            }
+        } finally {
+            in.reset();
+        }
+        throw new UnsupportedFormatException("Could not detect the import format. Specify 'format' as html, json or ndjson.");
+    }
+
+    private static BookmarkCreateRequest sanitize(BookmarkCreateRequest request) {
+        // 제목이 없는 북마크가 흔하므로 URL을 제목으로 사용
+        String title = StringUtils.hasText(request.getTitle()) ? request.getTitle() : request.getUrl();
+        List<String> tags = new ArrayList<>();
+        if (request.getTags() != null) {
+            for (String tag : request.getTags()) {
+                if (StringUtils.hasText(tag)) {
+                    tags.add(truncate(tag.trim()));
+                }
+            }
+        }
+        return new BookmarkCreateRequest(truncate(title), request.getUrl(), truncate(request.getMemo()), tags);
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_FIELD_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_FIELD_LENGTH);
+    }
+}
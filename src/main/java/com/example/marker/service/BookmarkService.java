@@ -1,11 +1,16 @@
 package com.example.marker.service;
 
+import com.example.marker.cache.BookmarkWatermarks;
+import com.example.marker.cache.CacheInvalidationBus;
 import com.example.marker.constants.CacheConstants;
 import com.example.marker.domain.Bookmark;
 import com.example.marker.domain.BookmarkTag;
 import com.example.marker.domain.Tag;
 import com.example.marker.domain.User;
 import com.example.marker.dto.BookmarkCreateRequest;
+import com.example.marker.dto.BookmarkField;
+import com.example.marker.dto.BookmarkPage;
+import com.example.marker.dto.BookmarkProjection;
 import com.example.marker.dto.BookmarkResponse;
 import com.example.marker.dto.BookmarkUpdateRequest;
 import com.example.marker.exception.BookmarkNotFoundException;
@@ -13,7 +18,8 @@ import com.example.marker.exception.UnauthorizedBookmarkAccessException;
 import com.example.marker.repository.BookmarkRepository;
 import com.example.marker.repository.TagRepository;
 import com.example.marker.repository.UserRepository;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
@@ -23,13 +29,13 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -43,12 +49,20 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final TagRepository tagRepository;
     private final UserRepository userRepository; // UserRepository 주입
+    private final CacheInvalidationBus cacheInvalidationBus; // 다른 노드의 캐시 무효화
+    private final CacheManager cacheManager;
+    private final BookmarkWatermarks bookmarkWatermarks; // 목록 조회의 조건부 요청(ETag)에 사용하는 사용자별 변경 시각
     private final BookmarkService self; // 자기 자신을 주입받아 프록시를 통해 캐시 메소드를 호출
 
-    public BookmarkService(BookmarkRepository bookmarkRepository, TagRepository tagRepository, UserRepository userRepository, @Lazy BookmarkService self) {
+    public BookmarkService(BookmarkRepository bookmarkRepository, TagRepository tagRepository, UserRepository userRepository,
+                           CacheInvalidationBus cacheInvalidationBus, CacheManager cacheManager,
+                           BookmarkWatermarks bookmarkWatermarks, @Lazy BookmarkService self) {
         this.bookmarkRepository = bookmarkRepository;
         this.tagRepository = tagRepository;
         this.userRepository = userRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.cacheManager = cacheManager;
+        this.bookmarkWatermarks = bookmarkWatermarks;
         this.self = self;
     }
 
@@ -60,15 +74,15 @@ public class BookmarkService {
     @Transactional // 개별적으로 쓰기 트랜잭션을 적용
     public BookmarkResponse createBookmark(BookmarkCreateRequest request) {
         Long currentUserId = getCurrentUserId();
-        // 현재 인증된 사용자 정보를 가져와 북마크에 연결
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new UsernameNotFoundException("Authenticated user not found.")); // 이 예외는 토큰이 유효하면 발생하지 않아야 함
+        // 외래 키만 필요하므로 사용자를 조회하지 않고 프록시(참조)만 연결 (SELECT 없이 INSERT만 실행)
+        User currentUser = userRepository.getReferenceById(currentUserId);
         Bookmark bookmark = request.toEntity(currentUser);
 
         // 태그 처리 로직 추가
         associateTagsWithBookmark(bookmark, request.getTags());
 
         Bookmark savedBookmark = bookmarkRepository.save(bookmark);
+        bookmarkWatermarks.touch(currentUserId);
         return BookmarkResponse.from(savedBookmark);
     }
 
@@ -76,10 +90,10 @@ public class BookmarkService {
      * 모든 북마크 목록을 조회합니다.
      * @return 북마크 목록
      */
-    public Page<BookmarkResponse> getAllBookmarks(Pageable pageable) {
+    public BookmarkPage getAllBookmarks(Pageable pageable) {
         Long currentUserId = getCurrentUserId();
         Page<Bookmark> bookmarks = bookmarkRepository.findAllByUserId(currentUserId, pageable);
-        return bookmarks.map(BookmarkResponse::from);
+        return toBookmarkPage(bookmarks);
     }
 
     /**
@@ -105,6 +119,9 @@ public class BookmarkService {
     public BookmarkResponse updateBookmark(Long bookmarkId, BookmarkUpdateRequest request) {
         Long currentUserId = getCurrentUserId();
         Bookmark updatedBookmark = self.updateAndCacheBookmark(currentUserId, bookmarkId, request);
+        // @CachePut은 로컬 캐시만 갱신하므로, 다른 노드에는 무효화를 전파 (트랜잭션 종료 후 전송)
+        cacheInvalidationBus.publish(CacheConstants.BOOKMARK_CACHE, CacheConstants.bookmarkKey(currentUserId, bookmarkId));
+        bookmarkWatermarks.touch(currentUserId);
         return BookmarkResponse.from(updatedBookmark);
 }
 
@@ -127,23 +144,28 @@ public class BookmarkService {
      * 특정 북마크를 삭제합니다.
      * @param bookmarkId 삭제할 북마크의 ID
      */
-    @CacheEvict(value = "bookmark", key = "#userId + ':' + #bookmarkId")
-@Transactional
-public void deleteBookmark(Long bookmarkId) {
-    Long userId = getCurrentUserId();
-    Bookmark bookmarkToDelete = findBookmarkEntityById(userId, bookmarkId);
-    bookmarkRepository.delete(bookmarkToDelete);
-}
+    @Transactional
+    public void deleteBookmark(Long bookmarkId) {
+        Long userId = getCurrentUserId();
+        Bookmark bookmarkToDelete = findBookmarkEntityById(userId, bookmarkId);
+        bookmarkRepository.delete(bookmarkToDelete);
+        // 캐시 키의 사용자 ID는 메서드 인자가 아니므로 @CacheEvict 대신 직접 제거 (다른 노드에는 캐시가 무효화를 전파)
+        Cache cache = cacheManager.getCache(CacheConstants.BOOKMARK_CACHE);
+        if (cache != null) {
+            cache.evict(CacheConstants.bookmarkKey(userId, bookmarkId));
+        }
+        bookmarkWatermarks.touch(userId);
+    }
 
     /**
      * 특정 태그를 가진 모든 북마크 목록을 조회합니다.
      * @param tagName 조회할 태그 이름
      * @return 해당 태그를 가진 북마크 목록
      */
-    public Page<BookmarkResponse> getBookmarksByTag(String tagName, Pageable pageable) {
+    public BookmarkPage getBookmarksByTag(String tagName, Pageable pageable) {
         Long currentUserId = getCurrentUserId();
         Page<Bookmark> bookmarks = bookmarkRepository.findByUserIdAndTagName(currentUserId, tagName, pageable);
-        return bookmarks.map(BookmarkResponse::from);
+        return toBookmarkPage(bookmarks);
     }
 
     /**
@@ -151,10 +173,36 @@ public void deleteBookmark(Long bookmarkId) {
      * @param keyword 검색할 키워드
      * @return 검색된 북마크 목록
      */
-    public Page<BookmarkResponse> searchBookmarks(String keyword, Pageable pageable) {
+    public BookmarkPage searchBookmarks(String keyword, Pageable pageable) {
         Long currentUserId = getCurrentUserId();
         Page<Bookmark> bookmarks = bookmarkRepository.findByUserIdAndKeyword(currentUserId, keyword, pageable);
-        return bookmarks.map(BookmarkResponse::from);
+        return toBookmarkPage(bookmarks);
+    }
+
+    /**
+     * 북마크 목록을 선택한 필드만 조회합니다. 선택한 필드의 컬럼만 조회하며, 태그를 선택하지 않으면 태그를 조회하지 않습니다.
+     * 태그 이름이 있으면 태그로, 없고 키워드가 있으면 제목 또는 URL로 필터링합니다.
+     * @param tagName 조회할 태그 이름 (선택)
+     * @param keyword 검색할 키워드 (선택)
+     * @param fields 조회할 필드
+     * @return 선택한 필드만 담긴 북마크 목록
+     */
+    public BookmarkPage getBookmarkFields(String tagName, String keyword, Set<BookmarkField> fields, Pageable pageable) {
+        Long currentUserId = getCurrentUserId();
+        Page<BookmarkProjection> bookmarks = bookmarkRepository.findProjectedByUserId(currentUserId, tagName, keyword, fields, pageable);
+        return BookmarkPage.from(bookmarks, fields);
+    }
+
+    /**
+     * 페이지에 포함된 북마크의 태그를 한 번의 쿼리로 함께 조회한 뒤 응답 페이지를 만듭니다.
+     * 같은 영속성 컨텍스트에서 태그를 페치 조인으로 다시 조회하면 이미 조회한 북마크의 태그 컬렉션이 채워지므로,
+     * 응답을 출력할 때 북마크마다 태그를 조회하지 않습니다. (N+1 방지)
+     */
+    private BookmarkPage toBookmarkPage(Page<Bookmark> bookmarks) {
+        if (bookmarks.hasContent()) {
+            bookmarkRepository.findAllByIdInWithTags(bookmarks.map(Bookmark::getId).getContent());
+        }
+        return BookmarkPage.from(bookmarks);
     }
 
 
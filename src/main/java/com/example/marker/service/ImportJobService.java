@@ -0,0 +1,353 @@
+package com.example.marker.service;
+
+import com.example.marker.config.AsyncConfig;
+import com.example.marker.domain.ImportJob;
+import com.example.marker.dto.BookmarkBatchCreateResponse;
+import com.example.marker.dto.BookmarkCreateRequest;
+import com.example.marker.dto.ImportJobResponse;
+import com.example.marker.exception.ImportJobNotFoundException;
+import com.example.marker.exception.TooManyRequestsException;
+import com.example.marker.importer.BookmarkImportFormat;
+import com.example.marker.repository.ImportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 큰 북마크 파일을 HTTP 요청과 분리하여 백그라운드에서 가져오는 작업(job)을 관리하는 서비스입니다.
+ * - 업로드된 파일은 spool 디렉터리에 저장한 뒤 작업 ID를 바로 반환하며, 진행 상황은 작업 조회 API로 확인합니다.
+ * - 작업은 크기가 제한된 전용 Executor에서 실행되고, 청크마다 북마크 저장과 진행 상황 갱신을 한 트랜잭션으로 커밋합니다.
+ *   서버가 중간에 종료되면 다음 기동 시 마지막으로 커밋된 청크 다음부터 이어서 처리합니다.
+ * - DB를 보호하기 위해 동시에 진행할 수 있는 작업 수를 사용자별, 전체로 제한하며, 초과하면 429로 응답합니다.
+ * spool 디렉터리는 노드 로컬이므로, 작업에 파일을 받은 노드의 ID를 기록하고 기동 시에는 자기 노드의 작업만 이어서 처리합니다.
+ * (다른 노드에서 실행 중인 작업을 실패로 기록하거나 두 번 실행하지 않도록) 노드 ID는 재시작해도 바뀌지 않아야 하므로,
+ * marker.import.jobs.node-id를 지정하지 않으면 호스트 이름을 사용합니다.
+ * 각 노드는 진행 중인 자기 작업에 주기적으로 heartbeat를 기록하며, heartbeat가 오래 끊긴 다른 노드의 작업은
+ * 그 노드가 사라진 것으로 보고(오토스케일링 등으로 같은 노드 ID로 다시 기동하지 않는 경우) 실패로 기록합니다.
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private static final long RETRY_AFTER_SECONDS = 30;
+    private static final List<ImportJob.Status> ACTIVE_STATUSES = List.of(ImportJob.Status.QUEUED, ImportJob.Status.RUNNING);
+    private static final String STALE_JOB_MESSAGE = "The node that owned this job stopped without finishing it.";
+
+    private final ImportJobRepository importJobRepository;
+    private final BookmarkImportService bookmarkImportService;
+    private final BookmarkBatchService bookmarkBatchService;
+    private final BookmarkService bookmarkService;
+    private final AsyncTaskExecutor executor;
+    private final ImportJobService self;
+    private final Path spoolDir;
+    private final int maxActiveJobs;
+    private final int maxJobsPerUser;
+    private final String nodeId;
+    private final Duration staleTimeout;
+
+    // 이 노드에서 대기 중이거나 실행 중인 작업 수
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private final ConcurrentHashMap<Long, Integer> activeJobsByUser = new ConcurrentHashMap<>();
+    private volatile boolean shuttingDown;
+
+    public ImportJobService(ImportJobRepository importJobRepository,
+                            BookmarkImportService bookmarkImportService,
+                            BookmarkBatchService bookmarkBatchService,
+                            BookmarkService bookmarkService,
+                            @Qualifier(AsyncConfig.IMPORT_JOB_EXECUTOR) AsyncTaskExecutor executor,
+                            @Lazy ImportJobService self,
+                            @Value("${marker.import.spool-dir:${java.io.tmpdir}/marker-import}") String spoolDir,
+                            @Value("${marker.import.jobs.max-active:20}") int maxActiveJobs,
+                            @Value("${marker.import.jobs.max-per-user:2}") int maxJobsPerUser,
+                            @Value("${marker.import.jobs.node-id:}") String nodeId,
+                            @Value("${marker.import.jobs.stale-timeout-ms:600000}") long staleTimeoutMillis) {
+        this.importJobRepository = importJobRepository;
+        this.bookmarkImportService = bookmarkImportService;
+        this.bookmarkBatchService = bookmarkBatchService;
+        this.bookmarkService = bookmarkService;
+        this.executor = executor;
+        this.self = self;
+        this.spoolDir = Path.of(spoolDir);
+        this.maxActiveJobs = maxActiveJobs;
+        this.maxJobsPerUser = maxJobsPerUser;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : localHostName();
+        this.staleTimeout = Duration.ofMillis(staleTimeoutMillis);
+    }
+
+    /**
+     * 현재 로그인한 사용자의 가져오기 작업을 등록합니다.
+     * @param file 업로드된 북마크 파일
+     * @param formatName 파일 형식 이름 (html, json, ndjson). 비어 있으면 파일 이름과 내용으로 추측
+     * @return 등록된 작업의 상태
+     * @throws TooManyRequestsException 진행 중인 작업 수가 제한을 넘은 경우
+     */
+    public ImportJobResponse submit(MultipartFile file, String formatName) throws IOException {
+        return submitForUser(bookmarkService.getCurrentUserId(), file, formatName);
+    }
+
+    /**
+     * 지정한 사용자의 가져오기 작업을 등록합니다.
+     * 파일을 spool 디렉터리에 저장하고 형식을 결정한 뒤, 작업을 Executor에 넘기고 바로 반환합니다.
+     */
+    public ImportJobResponse submitForUser(Long userId, MultipartFile file, String formatName) throws IOException {
+        acquireSlot(userId);
+        boolean scheduled = false;
+        Path spoolFile = null;
+        try {
+            Files.createDirectories(spoolDir);
+            spoolFile = Files.createTempFile(spoolDir, "import-", ".upload");
+            file.transferTo(spoolFile);
+
+            BookmarkImportFormat format;
+            try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(spoolFile))) {
+                format = bookmarkImportService.resolveFormat(formatName, file.getOriginalFilename(), in);
+            }
+
+            ImportJob job = importJobRepository.save(ImportJob.builder()
+                    .userId(userId)
+                    .format(format)
+                    .originalFilename(file.getOriginalFilename())
+                    .ownerNodeId(nodeId)
+                    .spoolPath(spoolFile.toAbsolutePath().toString())
+                    .build());
+            schedule(job.getId(), userId);
+            scheduled = true;
+            return ImportJobResponse.from(job);
+        } finally {
+            if (!scheduled) {
+                releaseSlot(userId);
+                deleteQuietly(spoolFile);
+            }
+        }
+    }
+
+    /**
+     * 현재 로그인한 사용자의 가져오기 작업 상태를 조회합니다.
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     * @throws ImportJobNotFoundException 작업이 없거나 다른 사용자의 작업인 경우
+     */
+    @Transactional(readOnly = true)
+    public ImportJobResponse getJob(Long jobId) {
+        Long userId = bookmarkService.getCurrentUserId();
+        return importJobRepository.findById(jobId)
+                .filter(job -> job.getUserId().equals(userId))
+                .map(ImportJobResponse::from)
+                .orElseThrow(() -> new ImportJobNotFoundException(jobId));
+    }
+
+    /**
+     * 기동이 완료되면 이 노드가 이전 실행에서 끝내지 못한 작업을 이어서 처리합니다.
+     * 작업 수 제한은 적용하지 않지만, Executor의 대기열이 가득 차면 남은 작업은 다음 기동 때 처리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJobs() {
+        List<ImportJob> jobs = importJobRepository.findAllByOwnerNodeIdAndStatusInOrderByIdAsc(nodeId, ACTIVE_STATUSES);
+        for (ImportJob job : jobs) {
+            if (!Files.isReadable(Path.of(job.getSpoolPath()))) {
+                self.finishJob(job.getId(), "Uploaded file is no longer available.");
+                continue;
+            }
+            activeJobs.incrementAndGet();
+            activeJobsByUser.merge(job.getUserId(), 1, Integer::sum);
+            try {
+                schedule(job.getId(), job.getUserId());
+                log.info("Resuming import job {} from bookmark #{}.", job.getId(), job.getProcessed());
+            } catch (TooManyRequestsException e) {
+                releaseSlot(job.getUserId());
+                log.warn("Import job queue is full, job {} will be resumed on the next start.", job.getId());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이 노드의 진행 중인 작업에 heartbeat(updatedAt)를 기록하고, heartbeat가 stale-timeout 이상 끊긴 다른 노드의 작업을 실패로 기록합니다.
+     * 대기열에서 기다리는 작업도 heartbeat를 받으므로, 살아 있는 노드의 작업이 오래 기다린다고 실패로 기록되지는 않습니다.
+     * @return 실패로 기록한 작업 수
+     */
+    @Scheduled(initialDelayString = "${marker.import.jobs.heartbeat-interval-ms:60000}",
+            fixedDelayString = "${marker.import.jobs.heartbeat-interval-ms:60000}")
+    public int heartbeat() {
+        if (shuttingDown) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        importJobRepository.touchActiveJobs(nodeId, ACTIVE_STATUSES, now);
+        int failed = importJobRepository.failStaleJobs(nodeId, ACTIVE_STATUSES, now.minus(staleTimeout),
+                ImportJob.Status.FAILED, STALE_JOB_MESSAGE, now);
+        if (failed > 0) {
+            log.warn("Marked {} import job(s) of unreachable nodes as failed.", failed);
+        }
+        return failed;
+    }
+
+    /**
+     * 종료가 시작되면 진행 중인 작업을 실패로 기록하지 않고 멈춥니다. (다음 기동 시 이어서 처리)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        shuttingDown = true;
+    }
+
+    @Transactional
+    public ImportJob startJob(Long jobId) {
+        ImportJob job = importJobRepository.findById(jobId).orElseThrow(() -> new ImportJobNotFoundException(jobId));
+        job.start();
+        return job;
+    }
+
+    /**
+     * 청크 하나를 저장하고, 같은 트랜잭션에서 작업의 진행 상황을 갱신합니다.
+     * 태그는 BookmarkBatchService에서 청크 단위로 한 번에 조회하고 생성합니다.
+     */
+    @Transactional
+    public void commitChunk(Long jobId, Long userId, List<BookmarkCreateRequest> chunk) {
+        BookmarkBatchCreateResponse response = bookmarkBatchService.createBookmarksForUser(userId, chunk);
+        ImportJob job = importJobRepository.findById(jobId).orElseThrow(() -> new ImportJobNotFoundException(jobId));
+        job.recordChunk(chunk.size(), response.getCreated());
+    }
+
+    /**
+     * 작업을 완료 또는 실패로 기록합니다.
+     * @param errorMessage 실패 이유 (null이면 완료)
+     */
+    @Transactional
+    public void finishJob(Long jobId, String errorMessage) {
+        importJobRepository.findById(jobId).ifPresent(job -> {
+            if (errorMessage == null) {
+                job.complete();
+            } else {
+                job.fail(errorMessage);
+            }
+        });
+    }
+
+    /**
+     * @return 이 노드의 ID (작업의 ownerNodeId)
+     */
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private void schedule(Long jobId, Long userId) {
+        try {
+            executor.execute(() -> run(jobId, userId));
+        } catch (TaskRejectedException e) {
+            throw new TooManyRequestsException("Too many import jobs are queued. Try again later.", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private void run(Long jobId, Long userId) {
+        Path spoolFile = null;
+        try {
+            ImportJob job = self.startJob(jobId);
+            spoolFile = Path.of(job.getSpoolPath());
+            try (InputStream in = Files.newInputStream(spoolFile)) {
+                // 이미 커밋된 청크의 북마크는 건너뛰고 이어서 처리
+                bookmarkImportService.forEachChunk(in, job.getFormat(), job.getProcessed(), chunk -> {
+                    if (shuttingDown) {
+                        throw new ImportInterruptedException();
+                    }
+                    self.commitChunk(jobId, userId, chunk);
+                });
+            }
+            self.finishJob(jobId, null);
+            deleteQuietly(spoolFile);
+            log.info("Import job {} completed.", jobId);
+        } catch (ImportInterruptedException e) {
+            log.info("Import job {} stopped by shutdown, it will be resumed on the next start.", jobId);
+        } catch (IOException | RuntimeException e) {
+            if (shuttingDown) {
+                log.info("Import job {} stopped by shutdown ({}), it will be resumed on the next start.", jobId, e.getMessage());
+                return;
+            }
+            log.warn("Import job {} failed: {}", jobId, e.getMessage());
+            try {
+                self.finishJob(jobId, e.getMessage());
+            } catch (RuntimeException finishFailure) {
+                log.warn("Failed to record failure of import job {}: {}", jobId, finishFailure.getMessage());
+            }
+            deleteQuietly(spoolFile);
+        } finally {
+            releaseSlot(userId);
+        }
+    }
+
+    private void acquireSlot(Long userId) {
+        if (activeJobs.incrementAndGet() > maxActiveJobs) {
+            activeJobs.decrementAndGet();
+            throw new TooManyRequestsException("Too many import jobs are in progress. Try again later.", RETRY_AFTER_SECONDS);
+        }
+        boolean[] acquired = new boolean[1];
+        activeJobsByUser.compute(userId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxJobsPerUser) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        if (!acquired[0]) {
+            activeJobs.decrementAndGet();
+            throw new TooManyRequestsException("You already have " + maxJobsPerUser + " import job(s) in progress.", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private void releaseSlot(Long userId) {
+        activeJobsByUser.computeIfPresent(userId, (id, count) -> count <= 1 ? null : count - 1);
+        activeJobs.decrementAndGet();
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete spool file {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 중에 청크 처리를 멈추기 위해 사용하는 예외입니다.
+     */
+    private static class ImportInterruptedException extends RuntimeException {
+        ImportInterruptedException() {
+            super(null, null, false, false);
+        }
+    }
+}
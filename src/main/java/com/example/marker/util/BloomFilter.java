@@ -0,0 +1,83 @@
+package com.example.marker.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없이 동시에 사용할 수 있는 문자열용 블룸 필터입니다.
+ * "포함되지 않음"은 항상 정확하고, "포함될 수 있음"은 설정한 오탐률(false positive probability) 이내로 틀릴 수 있습니다.
+ * 따라서 대부분의 조회를 메모리 연산 몇 번으로 끝내고, "포함될 수 있음"인 경우에만 정확한 자료구조를 확인하는 용도로 사용합니다.
+ * 원소를 제거할 수 없으므로, 필요하면 새 필터를 만들어 교체해야 합니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashFunctions;
+
+    private BloomFilter(long numBits, int numHashFunctions) {
+        int words = (int) ((numBits + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.numBits = (long) words << 6;
+        this.numHashFunctions = numHashFunctions;
+    }
+
+    /**
+     * 예상 원소 수와 오탐률에 맞는 크기의 블룸 필터를 생성합니다.
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveProbability 허용할 오탐률 (0과 1 사이)
+     * @return 새 블룸 필터
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1: " + falsePositiveProbability);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long numBits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2))));
+        int numHashFunctions = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        return new BloomFilter(numBits, numHashFunctions);
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < numHashFunctions; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, numBits);
+            long mask = 1L << bitIndex;
+            int word = (int) (bitIndex >>> 6);
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < numHashFunctions; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 64비트 해시에 비트 혼합을 더해 상위/하위 비트를 고르게 분포시킴
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
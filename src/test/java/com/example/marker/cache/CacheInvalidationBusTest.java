@@ -0,0 +1,137 @@
+package com.example.marker.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CacheInvalidationBus와 InvalidatingCacheManager에 대한 단위 테스트 클래스.
+ * 하나의 LoopbackCacheInvalidationTransport를 두 개의 버스가 공유하도록 하여 두 노드를 흉내냅니다.
+ */
+class CacheInvalidationBusTest {
+
+    private LoopbackCacheInvalidationTransport transport;
+    private InvalidatingCacheManager nodeA;
+    private InvalidatingCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        transport = new LoopbackCacheInvalidationTransport();
+        nodeA = new InvalidatingCacheManager(new ConcurrentMapCacheManager("bookmark"), new CacheInvalidationBus("node-a", transport, 2));
+        nodeB = new InvalidatingCacheManager(new ConcurrentMapCacheManager("bookmark"), new CacheInvalidationBus("node-b", transport, 2));
+    }
+
+    @DisplayName("한 노드에서 evict하면 다른 노드의 캐시에서도 제거된다")
+    @Test
+    void evict_PropagatesToOtherNodes() {
+        // given
+        Cache cacheA = nodeA.getCache("bookmark");
+        Cache cacheB = nodeB.getCache("bookmark");
+        cacheA.put("1:10", "a");
+        cacheB.put("1:10", "b");
+
+        // when
+        cacheA.evict("1:10");
+
+        // then
+        assertThat(cacheA.get("1:10")).isNull();
+        assertThat(cacheB.get("1:10")).isNull();
+    }
+
+    @DisplayName("put은 다른 노드로 전파되지 않는다 (@Cacheable 적재 시 다른 노드 캐시 보존)")
+    @Test
+    void put_DoesNotPropagate() {
+        // given
+        Cache cacheA = nodeA.getCache("bookmark");
+        Cache cacheB = nodeB.getCache("bookmark");
+        cacheB.put("1:10", "b");
+
+        // when
+        cacheA.put("1:10", "a");
+
+        // then
+        assertThat(cacheB.get("1:10").get()).isEqualTo("b");
+    }
+
+    @DisplayName("clear는 다른 노드의 캐시 전체를 비운다")
+    @Test
+    void clear_PropagatesToOtherNodes() {
+        // given
+        nodeB.getCache("bookmark").put("1:10", "b");
+        nodeB.getCache("bookmark").put("2:20", "b");
+
+        // when
+        nodeA.getCache("bookmark").clear();
+
+        // then
+        assertThat(nodeB.getCache("bookmark").get("1:10")).isNull();
+        assertThat(nodeB.getCache("bookmark").get("2:20")).isNull();
+    }
+
+    @DisplayName("자기 자신이 발행한 메시지는 리스너에 전달되지 않는다")
+    @Test
+    void ownMessages_AreIgnored() {
+        // given
+        CacheInvalidationBus bus = new CacheInvalidationBus("node-c", transport, 10);
+        List<CacheInvalidationMessage> received = new ArrayList<>();
+        bus.subscribe(received::add);
+
+        // when
+        bus.publish("bookmark", "1:10");
+
+        // then
+        assertThat(received).isEmpty();
+    }
+
+    @DisplayName("트랜잭션 밖에서는 즉시 전송되고, 다른 영역의 메시지는 캐시에 영향을 주지 않는다")
+    @Test
+    void unknownRegion_IsIgnoredByCacheManager() {
+        // given
+        nodeB.getCache("bookmark").put("1:10", "b");
+        CacheInvalidationBus bus = new CacheInvalidationBus("node-c", transport, 10);
+
+        // when
+        bus.publish("user-email", "1:10");
+
+        // then
+        assertThat(nodeB.getCache("bookmark").get("1:10")).isNotNull();
+        assertThat(nodeB.getCacheNames()).containsExactly("bookmark");
+    }
+
+    @DisplayName("전송에 실패해도 clear와 evict는 예외 없이 로컬 캐시에 반영된다")
+    @Test
+    void transportFailure_DoesNotPropagate() {
+        // given
+        CacheInvalidationTransport failingTransport = new CacheInvalidationTransport() {
+            @Override
+            public void send(CacheInvalidationMessage message) {
+                throw new IllegalStateException("broker unavailable");
+            }
+
+            @Override
+            public void register(Consumer<CacheInvalidationMessage> receiver) {
+            }
+        };
+        InvalidatingCacheManager node = new InvalidatingCacheManager(new ConcurrentMapCacheManager("bookmark"),
+                new CacheInvalidationBus("node-c", failingTransport, 10));
+        Cache cache = node.getCache("bookmark");
+        cache.put("1:10", "c");
+        cache.put("2:20", "c");
+
+        // when
+        cache.evict("1:10");
+        cache.clear();
+
+        // then
+        assertThat(cache.get("1:10")).isNull();
+        assertThat(cache.get("2:20")).isNull();
+    }
+}
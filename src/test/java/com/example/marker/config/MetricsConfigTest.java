@@ -0,0 +1,92 @@
+package com.example.marker.config;
+
+import com.example.marker.domain.User;
+import com.example.marker.exception.BookmarkNotFoundException;
+import com.example.marker.repository.UserRepository;
+import com.example.marker.service.BookmarkService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서비스, 리포지토리, 캐시 메트릭이 등록되고 기록되는지 확인하는 테스트 클래스.
+ */
+@SpringBootTest
+@Transactional
+class MetricsConfigTest {
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("metrics_test@example.com")
+                .password("password")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(String.valueOf(user.getId()), null, Collections.emptyList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("서비스 메서드 호출 시간이 결과별로 기록된다")
+    @Test
+    void serviceTimer_RecordsOutcome() {
+        long before = count("marker.service", "method", "getAllBookmarks", "SUCCESS");
+
+        bookmarkService.getAllBookmarks(PageRequest.of(0, 10));
+        assertThatThrownBy(() -> bookmarkService.getBookmarkById(-1L)).isInstanceOf(BookmarkNotFoundException.class);
+
+        assertThat(count("marker.service", "method", "getAllBookmarks", "SUCCESS")).isEqualTo(before + 1);
+        assertThat(count("marker.service", "method", "getBookmarkById", "ERROR")).isPositive();
+    }
+
+    @DisplayName("리포지토리 메서드 호출 시간이 리포지토리별로 기록된다")
+    @Test
+    void repositoryTimer_RecordsPerRepository() {
+        userRepository.findByEmail("metrics_test@example.com");
+
+        Timer timer = meterRegistry.find("marker.repository")
+                .tag("repository", "UserRepository")
+                .tag("method", "findByEmail")
+                .tag("outcome", "SUCCESS")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+    }
+
+    @DisplayName("감싼 캐시도 캐시 메트릭이 등록된다")
+    @Test
+    void cacheMetrics_AreBound() {
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "bookmark").functionCounters()).isNotEmpty();
+    }
+
+    private long count(String name, String tagKey, String tagValue, String outcome) {
+        Timer timer = meterRegistry.find(name).tag(tagKey, tagValue).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.marker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 기본 실행과 빠른 기동 모드(fast 프로필 + AOT + CDS)의 기동 시간을 비교하는 벤치마크입니다. ('./gradlew startupBenchmark'로 실행)
+ * 프로세스를 시작한 시점부터 가입, 로그인을 거쳐 첫 'GET /bookmarks'가 200으로 응답할 때까지의 시간을 측정합니다.
+ * 기동 시간은 출력만 하고 비교하지 않습니다. (실행 환경에 따라 달라지므로, 같은 환경에서 실행한 결과끼리 비교)
+ * 실행할 JAR과 CDS 아카이브는 'cdsArchive' 태스크가 만들며, startupBenchmark 태스크가 경로를 시스템 프로퍼티로 전달합니다.
+ */
+@Tag("benchmark")
+@Tag("startup")
+class StartupBenchmarkTest {
+
+    private static final int RUNS = 3;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("기본 실행과 빠른 기동 모드의 첫 'GET /bookmarks' 성공까지 걸린 시간 비교")
+    void compareStartup() throws Exception {
+        String jar = System.getProperty("marker.startup.jar");
+        assumeTrue(jar != null && Files.isRegularFile(Path.of(jar)), "Run with './gradlew startupBenchmark' to build the startup jar.");
+        Path archive = Path.of(System.getProperty("marker.startup.cds-archive", ""));
+
+        List<String> fast = new ArrayList<>(List.of("-Dspring.aot.enabled=true", "-Dspring.profiles.active=fast"));
+        if (Files.isRegularFile(archive)) {
+            fast.add("-XX:SharedArchiveFile=" + archive);
+        }
+
+        long defaultMillis = Long.MAX_VALUE;
+        long fastMillis = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            defaultMillis = Math.min(defaultMillis, measure(jar, List.of(), "default"));
+            fastMillis = Math.min(fastMillis, measure(jar, fast, "fast"));
+        }
+
+        System.out.printf("default             : first GET /bookmarks after %,d ms (best of %d)%n", defaultMillis, RUNS);
+        System.out.printf("fast (AOT, CDS, lazy): first GET /bookmarks after %,d ms (best of %d)%n", fastMillis, RUNS);
+    }
+
+    private long measure(String jar, List<String> jvmArgs, String name) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar, "--server.port=" + port));
+
+        File log = Files.createTempFile("marker-startup-" + name, ".log").toFile();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log).start();
+        try {
+            firstBookmarksResponse("http://localhost:" + port, start);
+            return Duration.ofNanos(System.nanoTime() - start).toMillis();
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    // 서버가 요청을 받을 수 있을 때까지 기다린 뒤 가입, 로그인, 목록 조회를 차례로 수행
+    private void firstBookmarksResponse(String baseUrl, long start) throws Exception {
+        String credentials = "{\"email\":\"startup@example.com\", \"password\":\"password123\"}";
+        while (true) {
+            if (System.nanoTime() - start > STARTUP_TIMEOUT.toNanos()) {
+                throw new IllegalStateException("Server did not answer within " + STARTUP_TIMEOUT);
+            }
+            try {
+                send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/signup"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(credentials)).build());
+                break;
+            } catch (ConnectException e) {
+                Thread.sleep(10);
+            }
+        }
+        HttpResponse<String> login = send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)).build());
+        String token = objectMapper.readTree(login.body()).get("token").asText();
+        HttpResponse<String> bookmarks = send(HttpRequest.newBuilder(URI.create(baseUrl + "/bookmarks"))
+                .header("Authorization", "Bearer " + token)
+                .GET().build());
+        assertThat(bookmarks.statusCode()).isEqualTo(200);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.marker.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 풀과 가상 스레드의 처리량을 비교하는 벤치마크입니다. ('./gradlew benchmark'로 실행)
+ * 요청 하나는 커넥션 밖에서의 대기(외부 호출, 응답 쓰기 등)와 커넥션을 잡고 하는 짧은 JDBC 왕복으로 구성됩니다.
+ * 커넥션 풀은 크기가 같은 세마포어로 흉내 냅니다.
+ * - 플랫폼 스레드: Tomcat 기본값과 같은 200개 스레드가 대기 시간 동안에도 점유되므로 처리량이 스레드 수에 묶입니다.
+ * - 가상 스레드: 대기 중에는 캐리어 스레드를 반납하므로 처리량이 커넥션 풀 크기에 묶입니다.
+ * 처리량은 출력만 하고 비교하지 않으며, 모든 요청이 처리되었는지만 확인합니다.
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final int REQUESTS = 20_000;
+    private static final int PLATFORM_THREADS = 200; // server.tomcat.threads.max 기본값
+    private static final int CONNECTION_POOL_SIZE = 20; // spring.datasource.hikari.maximum-pool-size
+    private static final long OUTSIDE_CONNECTION_MILLIS = 50;
+    private static final long INSIDE_CONNECTION_MILLIS = 1;
+
+    @Test
+    @DisplayName("대기 시간이 긴 요청에서 가상 스레드와 플랫폼 스레드의 처리량 비교")
+    void compareThroughput() throws InterruptedException {
+        // JIT 워밍업
+        run(Executors.newFixedThreadPool(PLATFORM_THREADS), REQUESTS / 10);
+        run(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS / 10);
+
+        Result platform = run(Executors.newFixedThreadPool(PLATFORM_THREADS), REQUESTS);
+        Result virtual = run(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS);
+
+        System.out.printf("platform threads (%d): %,d requests in %,d ms (%,.0f req/s)%n",
+                PLATFORM_THREADS, platform.completed, platform.elapsedMillis, platform.throughput());
+        System.out.printf("virtual threads       : %,d requests in %,d ms (%,.0f req/s)%n",
+                virtual.completed, virtual.elapsedMillis, virtual.throughput());
+
+        assertThat(platform.completed).isEqualTo(REQUESTS);
+        assertThat(virtual.completed).isEqualTo(REQUESTS);
+    }
+
+    private static Result run(ExecutorService executor, int requests) throws InterruptedException {
+        Semaphore connectionPool = new Semaphore(CONNECTION_POOL_SIZE, true);
+        AtomicInteger completed = new AtomicInteger();
+        long start = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < requests; i++) {
+                executor.execute(() -> {
+                    try {
+                        Thread.sleep(OUTSIDE_CONNECTION_MILLIS);
+                        connectionPool.acquire();
+                        try {
+                            Thread.sleep(INSIDE_CONNECTION_MILLIS);
+                        } finally {
+                            connectionPool.release();
+                        }
+                        completed.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        }
+        // try-with-resources의 close()가 모든 작업이 끝날 때까지 기다림
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new Result(completed.get(), elapsedMillis);
+    }
+
+    private record Result(int completed, long elapsedMillis) {
+        double throughput() {
+            return completed * 1000.0 / Math.max(1, elapsedMillis);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -113,4 +114,35 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isUnauthorized()); // 401 Unauthorized
     }
-}
\ No newline at end of file
+
+    @DisplayName("로그아웃 API - 폐기된 Access 토큰으로는 API를 호출할 수 없음")
+    @Test
+    void logout_RevokesAccessToken() throws Exception {
+        // given
+        AuthSignupRequest signupRequest = new AuthSignupRequest();
+        signupRequest.setEmail("test@example.com");
+        signupRequest.setPassword("password123");
+        mockMvc.perform(post("/auth/signup").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(signupRequest)));
+
+        AuthLoginRequest loginRequest = new AuthLoginRequest();
+        loginRequest.setEmail("test@example.com");
+        loginRequest.setPassword("password123");
+        String loginResponse = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = objectMapper.readTree(loginResponse).get("token").asText();
+
+        mockMvc.perform(get("/bookmarks").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // when
+        mockMvc.perform(post("/auth/logout").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/bookmarks").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,36 +1,56 @@
 package com.example.marker.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.marker.domain.Bookmark;
 import com.example.marker.domain.BookmarkTag;
+import com.example.marker.domain.ImportJob;
 import com.example.marker.domain.Tag;
 import com.example.marker.domain.User;
+import com.example.marker.dto.BookmarkBatchCreateRequest;
 import com.example.marker.dto.BookmarkCreateRequest;
 import com.example.marker.dto.BookmarkUpdateRequest;
+import com.example.marker.importer.BookmarkImportFormat;
+import com.example.marker.metrics.StatementCounter;
 import com.example.marker.repository.BookmarkRepository;
+import com.example.marker.repository.ImportJobRepository;
 import com.example.marker.repository.TagRepository;
 import com.example.marker.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.persistence.EntityManager;
 
 /**
  * BookmarkController에 대한 통합 테스트 클래스.
@@ -41,6 +61,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @Transactional
 class BookmarkControllerTest {
 
+    // SQL 문 예산 테스트에서 준비하는 목록 크기
+    private static final int LIST_SIZE = 20;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -56,6 +79,15 @@ class BookmarkControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private String userToken;
     private User user;
 
@@ -94,6 +126,44 @@ class BookmarkControllerTest {
                 .andExpect(jsonPath("$.tags[?(@ == 'Java')]").exists());
     }
 
+    @DisplayName("북마크 일괄 생성 API - 유효한 항목만 생성하고 항목별 결과 반환")
+    @Test
+    void createBookmarks_Batch_PartialSuccess() throws Exception {
+        tagRepository.save(Tag.builder().name("기존태그").build());
+        final BookmarkBatchCreateRequest request = new BookmarkBatchCreateRequest(List.of(
+                new BookmarkCreateRequest("First", "https://first.com", null, List.of("기존태그", "새태그")),
+                new BookmarkCreateRequest("", "not-a-url", null, null),
+                new BookmarkCreateRequest("Third", "https://third.com", "memo", List.of("새태그"))
+        ));
+
+        mockMvc.perform(post("/bookmarks/batch")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results", hasSize(3)))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").exists())
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors").isArray())
+                .andExpect(jsonPath("$.results[2].status").value("CREATED"));
+
+        assertThat(bookmarkRepository.findAllByUserId(user.getId(), PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+        assertThat(tagRepository.findAllByNameIn(List.of("기존태그", "새태그"))).hasSize(2);
+    }
+
+    @DisplayName("북마크 일괄 생성 API - 실패 (빈 목록)")
+    @Test
+    void createBookmarks_Batch_Fail_Empty() throws Exception {
+        mockMvc.perform(post("/bookmarks/batch")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookmarks\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("북마크 전체 조회 API - 성공")
     @Test
     void getAllBookmarks_Success() throws Exception {
@@ -107,10 +177,142 @@ class BookmarkControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(5))
+                .andExpect(jsonPath("$.totalPages").value(1))
+                // Spring Page의 pageable, sort 정보는 응답에 포함하지 않음
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.content[0].tags").isArray())
                 // 순서에 상관없이 title 필드의 값만 검증
                 .andExpect(jsonPath("$.content[*].title", containsInAnyOrder("Google", "Naver")));
     }
 
+    @DisplayName("북마크 목록 조회 API - 변경이 없으면 304, 북마크를 생성한 뒤에는 200")
+    @Test
+    void getBookmarks_ConditionalGet() throws Exception {
+        String etag = mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/\"")))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // 조회 조건이 다르면 ETag도 다름
+        mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("If-None-Match", etag)
+                        .param("keyword", "Google"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookmarkCreateRequest("Google", "https://www.google.com", null, null))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @DisplayName("북마크 목록 조회 API - 다른 노드에서 변경해도(캐시 무효화 전파 없이) 304가 아닌 200")
+    @Test
+    void getBookmarks_ConditionalGet_SeesChangesFromOtherNodes() throws Exception {
+        String etag = mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 다른 노드의 변경: 북마크와 변경 시각만 DB에 커밋되고, 이 노드에는 아무것도 전파되지 않음
+        bookmarkRepository.save(Bookmark.builder().title("Remote").url("https://remote.example.com").user(user).build());
+        userRepository.touchBookmarksModifiedAt(user.getId(), System.currentTimeMillis());
+
+        mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Remote"));
+    }
+
+    @DisplayName("북마크 목록 조회 API - Accept 헤더로 CBOR 형식 선택")
+    @Test
+    void getBookmarks_Cbor() throws Exception {
+        bookmarkRepository.save(Bookmark.builder().title("Google").url("https://www.google.com").user(user).build());
+
+        byte[] body = mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(page.get("totalElements").asLong()).isEqualTo(1);
+        assertThat(page.get("content").get(0).get("title").asText()).isEqualTo("Google");
+    }
+
+    @DisplayName("북마크 목록 조회 API - CBOR 응답은 JSON과 같은 형태이며 엔티티 내부 필드를 포함하지 않음")
+    @Test
+    void getBookmarks_CborMatchesJsonShape() throws Exception {
+        saveBookmarksWithTags(1);
+
+        byte[] cbor = mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        String json = mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode cborPage = new ObjectMapper(new CBORFactory()).readTree(cbor);
+        JsonNode jsonPage = objectMapper.readTree(json);
+        assertThat(cborPage.findValue("user")).isNull();
+        assertThat(cborPage.findValue("password")).isNull();
+        assertThat(cborPage.findValue("bookmarkTags")).isNull();
+        assertThat(fieldNames(cborPage)).isEqualTo(fieldNames(jsonPage));
+        assertThat(fieldNames(cborPage.get("content").get(0))).isEqualTo(fieldNames(jsonPage.get("content").get(0)));
+        assertThat(cborPage.get("content").get(0).get("title").asText()).isEqualTo(jsonPage.get("content").get(0).get("title").asText());
+        assertThat(cborPage.get("content").get(0).get("tags").toString()).isEqualTo(jsonPage.get("content").get(0).get("tags").toString());
+    }
+
+    @DisplayName("북마크 목록 조회 API - fields로 선택한 필드만 응답")
+    @Test
+    void getBookmarks_SparseFields() throws Exception {
+        mockMvc.perform(post("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookmarkCreateRequest("Google", "https://www.google.com", "memo", List.of("검색")))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("fields", "id,title,tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").exists())
+                .andExpect(jsonPath("$.content[0].title").value("Google"))
+                .andExpect(jsonPath("$.content[0].tags[0]").value("검색"))
+                .andExpect(jsonPath("$.content[0].url").doesNotExist())
+                .andExpect(jsonPath("$.content[0].memo").doesNotExist());
+
+        mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("fields", "title,owner"))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("북마크 생성 API - 실패 (유효성 검증 실패)")
     @Test
     void createBookmark_Fail_Validation() throws Exception {
@@ -187,11 +389,23 @@ class BookmarkControllerTest {
     @Test
     void getBookmarkById_Fail_NotFound() throws Exception {
         Long nonExistentId = 999L;
+        double before = notFoundErrorCount();
 
         mockMvc.perform(get("/bookmarks/{id}", nonExistentId)
                         .header("Authorization", "Bearer " + userToken)
                 )
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.path").value("/bookmarks/" + nonExistentId));
+
+        // 오류 유형별 집계 (marker.errors)
+        assertThat(notFoundErrorCount()).isEqualTo(before + 1);
+    }
+
+    private double notFoundErrorCount() {
+        Counter counter = meterRegistry.find("marker.errors")
+                .tags("exception", "BookmarkNotFoundException", "status", "404")
+                .counter();
+        return counter != null ? counter.count() : 0;
     }
 
     @DisplayName("북마크 수정 API - 성공")
@@ -277,6 +491,154 @@ class BookmarkControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @DisplayName("북마크 가져오기 API - 북마크 HTML 파일, 폴더는 태그로 변환")
+    @Test
+    void importBookmarks_Html_Success() throws Exception {
+        String html = """
+                <!DOCTYPE NETSCAPE-Bookmark-file-1>
+                <DL><p>
+                    <DT><H3>개발</H3>
+                    <DL><p>
+                        <DT><A HREF="https://spring.io">Spring</A>
+                        <DT><A HREF="https://openjdk.org">OpenJDK</A>
+                        <DT><A HREF="javascript:void(0)">Bookmarklet</A>
+                    </DL><p>
+                </DL><p>
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "bookmarks.html", MediaType.TEXT_HTML_VALUE, html.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/bookmarks/import").file(file)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.format").value("HTML"))
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1));
+
+        mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("tag", "개발"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @DisplayName("북마크 가져오기 API - 실패 (알 수 없는 형식)")
+    @Test
+    void importBookmarks_Fail_UnsupportedFormat() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "bookmarks.txt", MediaType.TEXT_PLAIN_VALUE, "hello".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/bookmarks/import").file(file)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("북마크 내보내기 API - NDJSON, 태그가 여러 개인 북마크도 한 줄로 출력")
+    @Test
+    void exportBookmarks_Ndjson_Success() throws Exception {
+        Tag devTag = tagRepository.save(Tag.builder().name("개발").build());
+        Tag javaTag = tagRepository.save(Tag.builder().name("java").build());
+        Bookmark tagged = Bookmark.builder().title("Spring").url("https://spring.io").user(user).build();
+        tagged.addBookmarkTag(BookmarkTag.builder().tag(devTag).build());
+        tagged.addBookmarkTag(BookmarkTag.builder().tag(javaTag).build());
+        bookmarkRepository.save(tagged);
+        bookmarkRepository.save(Bookmark.builder().title("Naver News").url("https://news.naver.com").user(user).build());
+
+        String body = mockMvc.perform(get("/bookmarks/export")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("bookmarks.ndjson")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.trim().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Spring");
+        assertThat(objectMapper.readTree(lines[0]).get("tags")).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("tags")).isEmpty();
+    }
+
+    @DisplayName("북마크 내보내기 API - CSV, 쉼표가 포함된 값은 따옴표로 감쌈")
+    @Test
+    void exportBookmarks_Csv_Success() throws Exception {
+        bookmarkRepository.save(Bookmark.builder().title("Hello, World").url("https://example.com").user(user).build());
+
+        String body = mockMvc.perform(get("/bookmarks/export")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("format", "csv"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.replace("\uFEFF", "").split("\r\n");
+        assertThat(lines[0]).isEqualTo("id,title,url,memo,tags,createdAt");
+        assertThat(lines[1]).contains("\"Hello, World\",https://example.com");
+    }
+
+    @DisplayName("북마크 내보내기 API - 실패 (지원하지 않는 형식)")
+    @Test
+    void exportBookmarks_Fail_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/bookmarks/export")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("북마크 일괄 삭제 API - 태그 조건, dryRun이면 삭제하지 않음")
+    @Test
+    void deleteBookmarks_ByTag_DryRunThenDelete() throws Exception {
+        Tag devTag = tagRepository.save(Tag.builder().name("개발").build());
+        for (int i = 0; i < 2; i++) {
+            Bookmark bookmark = Bookmark.builder().title("Dev " + i).url("https://dev.example.com/" + i).user(user).build();
+            bookmark.addBookmarkTag(BookmarkTag.builder().tag(devTag).build());
+            bookmarkRepository.save(bookmark);
+        }
+        Bookmark kept = bookmarkRepository.save(Bookmark.builder().title("Naver News").url("https://news.naver.com").user(user).build());
+
+        mockMvc.perform(delete("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("tag", "개발")
+                        .param("dryRun", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dryRun").value(true))
+                .andExpect(jsonPath("$.matched").value(2))
+                .andExpect(jsonPath("$.deleted").value(0));
+        assertThat(bookmarkRepository.count()).isEqualTo(3);
+
+        mockMvc.perform(delete("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("tag", "개발"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dryRun").value(false))
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        assertThat(bookmarkRepository.findAll()).extracting(Bookmark::getId).containsExactly(kept.getId());
+    }
+
+    @DisplayName("북마크 일괄 삭제 API - ID 목록 조건, 다른 사용자의 북마크는 삭제하지 않음")
+    @Test
+    void deleteBookmarks_ByIds_OnlyOwnBookmarks() throws Exception {
+        User otherUser = userRepository.save(User.builder().email("other@example.com").password("password").build());
+        Bookmark mine = bookmarkRepository.save(Bookmark.builder().title("Mine").url("https://mine.example.com").user(user).build());
+        Bookmark others = bookmarkRepository.save(Bookmark.builder().title("Others").url("https://others.example.com").user(otherUser).build());
+
+        mockMvc.perform(delete("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("ids", mine.getId().toString(), others.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matched").value(1))
+                .andExpect(jsonPath("$.deleted").value(1));
+
+        assertThat(bookmarkRepository.findById(mine.getId())).isEmpty();
+        assertThat(bookmarkRepository.findById(others.getId())).isPresent();
+    }
+
+    @DisplayName("북마크 일괄 삭제 API - 실패 (조건 없음)")
+    @Test
+    void deleteBookmarks_Fail_NoCriteria() throws Exception {
+        mockMvc.perform(delete("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("북마크 API 접근 - 실패 (인증되지 않은 사용자)")
     @Test
     void accessBookmarkApi_Fail_Unauthorized() throws Exception {
@@ -367,4 +729,230 @@ class BookmarkControllerTest {
                 .andExpect(jsonPath("$.tags", hasSize(3)))
                 .andExpect(jsonPath("$.tags", containsInAnyOrder("Java", "Spring", "Backend")));
     }
-}
\ No newline at end of file
+
+    // SQL 문 예산: 목록 크기(LIST_SIZE)와 관계없이 요청마다 실행하는 SQL 문 수가 일정한지(N+1이 없는지) 확인합니다.
+    // 시퀀스 호출은 미리 할당받은 ID 구간(50개)을 다 썼을 때만 실행되므로, 예산에는 시퀀스마다 최대 호출 횟수를 포함합니다.
+    @DisplayName("SQL 문 예산 - 북마크 목록 조회: 변경 시각, 목록, COUNT, 태그 조회")
+    @Test
+    void statementBudget_GetBookmarks() throws Exception {
+        saveBookmarksWithTags(LIST_SIZE);
+
+        performWithinBudget(4, get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("size", String.valueOf(LIST_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(LIST_SIZE)))
+                .andExpect(jsonPath("$.content[0].tags", hasSize(2)));
+    }
+
+    @DisplayName("SQL 문 예산 - 태그로 북마크 조회: 변경 시각, 목록, COUNT, 태그 조회")
+    @Test
+    void statementBudget_GetBookmarksByTag() throws Exception {
+        saveBookmarksWithTags(LIST_SIZE);
+
+        performWithinBudget(4, get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("tag", "java")
+                        .param("size", String.valueOf(LIST_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(LIST_SIZE)));
+    }
+
+    @DisplayName("SQL 문 예산 - 키워드로 북마크 검색: 변경 시각, 목록, COUNT, 태그 조회")
+    @Test
+    void statementBudget_SearchBookmarks() throws Exception {
+        saveBookmarksWithTags(LIST_SIZE);
+
+        performWithinBudget(4, get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("keyword", "example")
+                        .param("size", String.valueOf(LIST_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(LIST_SIZE)));
+    }
+
+    @DisplayName("SQL 문 예산 - 선택한 필드만 조회: 변경 시각, 목록, COUNT, 태그 조회")
+    @Test
+    void statementBudget_GetBookmarkFields() throws Exception {
+        saveBookmarksWithTags(LIST_SIZE);
+
+        performWithinBudget(4, get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("fields", "id,title,tags")
+                        .param("size", String.valueOf(LIST_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(LIST_SIZE)));
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 상세 조회: 북마크, 사용자, 태그를 한 번에 조회")
+    @Test
+    void statementBudget_GetBookmarkById() throws Exception {
+        Long bookmarkId = saveBookmarksWithTags(1).get(0);
+
+        performWithinBudget(1, get("/bookmarks/{id}", bookmarkId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags", hasSize(2)));
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 생성: 태그별 조회 2, 시퀀스 최대 3, INSERT 2, 변경 시각 UPDATE")
+    @Test
+    void statementBudget_CreateBookmark() throws Exception {
+        saveBookmarksWithTags(0);
+
+        performWithinBudget(8, post("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookmarkCreateRequest("Title", "https://new.example.com", null, List.of("java", "spring")))))
+                .andExpect(status().isCreated());
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 수정: 조회, 태그 조회, 시퀀스 최대 1, UPDATE, 태그 연결 DELETE와 INSERT, 변경 시각 UPDATE")
+    @Test
+    void statementBudget_UpdateBookmark() throws Exception {
+        Long bookmarkId = saveBookmarksWithTags(1).get(0);
+
+        performWithinBudget(7, put("/bookmarks/{id}", bookmarkId)
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookmarkUpdateRequest("Updated", "https://updated.example.com", null, List.of("java")))))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 삭제: 조회, 태그 연결 DELETE, 북마크 DELETE, 변경 시각 UPDATE")
+    @Test
+    void statementBudget_DeleteBookmark() throws Exception {
+        Long bookmarkId = saveBookmarksWithTags(1).get(0);
+
+        performWithinBudget(4, delete("/bookmarks/{id}", bookmarkId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isNoContent());
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 일괄 생성: 태그 조회 1, 시퀀스 최대 4, 배치 INSERT 2, 변경 시각 UPDATE")
+    @Test
+    void statementBudget_CreateBookmarksBatch() throws Exception {
+        saveBookmarksWithTags(0);
+        List<BookmarkCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < LIST_SIZE; i++) {
+            requests.add(new BookmarkCreateRequest("Batch " + i, "https://batch.example.com/" + i, null, List.of("java", "spring")));
+        }
+
+        performWithinBudget(8, post("/bookmarks/batch")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookmarkBatchCreateRequest(requests))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(LIST_SIZE));
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 일괄 삭제: ID 조회, 태그 연결 DELETE, 북마크 DELETE, 변경 시각 UPDATE")
+    @Test
+    void statementBudget_DeleteBookmarks() throws Exception {
+        saveBookmarksWithTags(LIST_SIZE);
+
+        performWithinBudget(4, delete("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("tag", "java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(LIST_SIZE));
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 가져오기: 태그 조회 1, 시퀀스 최대 4, 배치 INSERT 2, 변경 시각 UPDATE")
+    @Test
+    void statementBudget_ImportBookmarks() throws Exception {
+        saveBookmarksWithTags(0);
+        StringBuilder html = new StringBuilder("<DL><p>\n<DT><H3>java</H3>\n<DL><p>\n");
+        for (int i = 0; i < LIST_SIZE; i++) {
+            html.append("<DT><A HREF=\"https://import.example.com/").append(i).append("\">Import ").append(i).append("</A>\n");
+        }
+        html.append("</DL><p>\n</DL><p>\n");
+        MockMultipartFile file = new MockMultipartFile("file", "bookmarks.html", MediaType.TEXT_HTML_VALUE, html.toString().getBytes(StandardCharsets.UTF_8));
+
+        performWithinBudget(8, multipart("/bookmarks/import").file(file)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(LIST_SIZE));
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 가져오기 작업 등록: 작업 INSERT 1 (파일 처리는 백그라운드 Executor에서 실행)")
+    @Test
+    void statementBudget_SubmitImportJob() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "bookmarks.html", MediaType.TEXT_HTML_VALUE,
+                "<DL><p>\n<DT><A HREF=\"https://job.example.com\">Job</A>\n</DL><p>\n".getBytes(StandardCharsets.UTF_8));
+
+        performWithinBudget(1, multipart("/bookmarks/import/jobs").file(file)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").exists());
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 가져오기 작업 조회: 작업 조회 1")
+    @Test
+    void statementBudget_GetImportJob() throws Exception {
+        Long jobId = importJobRepository.save(ImportJob.builder()
+                .userId(user.getId())
+                .format(BookmarkImportFormat.HTML)
+                .originalFilename("bookmarks.html")
+                .spoolPath("unused.upload")
+                .build()).getId();
+
+        performWithinBudget(1, get("/bookmarks/import/jobs/{jobId}", jobId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(jobId));
+    }
+
+    @DisplayName("SQL 문 예산 - 북마크 내보내기: 태그를 조인한 조회 1")
+    @Test
+    void statementBudget_ExportBookmarks() throws Exception {
+        saveBookmarksWithTags(LIST_SIZE);
+
+        performWithinBudget(1, get("/bookmarks/export")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("format", "ndjson"))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * 'java', 'spring' 태그를 만들고, 두 태그가 모두 연결된 북마크를 count개 저장합니다.
+     * @return 저장한 북마크 ID 목록
+     */
+    private List<Long> saveBookmarksWithTags(int count) {
+        Tag java = tagRepository.save(Tag.builder().name("java").build());
+        Tag spring = tagRepository.save(Tag.builder().name("spring").build());
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Bookmark bookmark = Bookmark.builder().title("Bookmark " + i).url("https://example.com/" + i).user(user).build();
+            bookmark.addBookmarkTag(BookmarkTag.builder().tag(java).build());
+            bookmark.addBookmarkTag(BookmarkTag.builder().tag(spring).build());
+            ids.add(bookmarkRepository.save(bookmark).getId());
+        }
+        return ids;
+    }
+
+    // JSON 객체의 필드 이름을 순서대로 반환 (CBOR와 JSON 응답의 형태 비교에 사용)
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    /**
+     * 요청을 실행하고, 요청을 처리하는 동안 실행한 SQL 문이 budget개 이하인지 확인합니다.
+     * 준비 단계에서 영속성 컨텍스트에 올라간 엔티티 때문에 조회가 생략되지 않도록 요청 전에 비우고,
+     * 테스트 트랜잭션은 커밋되지 않으므로 요청이 남긴 INSERT/UPDATE/DELETE는 요청 직후 flush하여 함께 셉니다.
+     */
+    private ResultActions performWithinBudget(int budget, RequestBuilder request) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            ResultActions result = mockMvc.perform(request);
+            entityManager.flush();
+            assertThat(scope.getCount())
+                    .as("SQL statements: %s", scope.getCountsBySql())
+                    .isLessThanOrEqualTo(budget);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.marker.importer;
+
+import com.example.marker.dto.BookmarkCreateRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetscapeBookmarkParser와 JsonBookmarkParser에 대한 단위 테스트 클래스.
+ */
+class NetscapeBookmarkParserTest {
+
+    private static final String HTML = """
+            <!DOCTYPE NETSCAPE-Bookmark-file-1>
+            <!-- This is an automatically generated file.
+                 It will be read and overwritten.
+                 DO NOT EDIT! -->
+            <META HTTP-EQUIV="Content-Type" CONTENT="text/html; charset=UTF-8">
+            <TITLE>Bookmarks</TITLE>
+            <H1>Bookmarks</H1>
+            <DL><p>
+                <DT><H3 ADD_DATE="1" PERSONAL_TOOLBAR_FOLDER="true">Bookmarks bar</H3>
+                <DL><p>
+                    <DT><H3>개발</H3>
+                    <DL><p>
+                        <DT><A HREF="https://spring.io/?a=1&amp;b=2" ICON="data:image/png;base64,AAAA" TAGS="java, spring">Spring &amp; Boot</A>
+                        <DD>스프링 공식 사이트
+                        <DT><H3>Java</H3>
+                        <DL><p>
+                            <DT><A HREF='https://openjdk.org'>OpenJDK</A>
+                        </DL><p>
+                    </DL><p>
+                    <DT><A HREF="https://news.naver.com"></A>
+                </DL><p>
+            </DL><p>
+            """;
+
+    @Test
+    @DisplayName("폴더는 태그로, TAGS 속성은 추가 태그로, DD는 메모로 변환")
+    void parse_MapsFoldersToTags() throws IOException {
+        // when
+        List<BookmarkCreateRequest> bookmarks = parse(new NetscapeBookmarkParser(), HTML);
+
+        // then
+        assertThat(bookmarks).hasSize(3);
+
+        BookmarkCreateRequest spring = bookmarks.get(0);
+        assertThat(spring.getTitle()).isEqualTo("Spring & Boot");
+        assertThat(spring.getUrl()).isEqualTo("https://spring.io/?a=1&b=2");
+        assertThat(spring.getMemo()).isEqualTo("스프링 공식 사이트");
+        assertThat(spring.getTags()).containsExactly("개발", "java", "spring");
+
+        BookmarkCreateRequest openJdk = bookmarks.get(1);
+        assertThat(openJdk.getUrl()).isEqualTo("https://openjdk.org");
+        assertThat(openJdk.getMemo()).isNull();
+        assertThat(openJdk.getTags()).containsExactly("개발", "Java");
+
+        // 북마크바 폴더는 태그로 사용하지 않음
+        BookmarkCreateRequest news = bookmarks.get(2);
+        assertThat(news.getTitle()).isEmpty();
+        assertThat(news.getTags()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("HTML 문자 참조를 원래 문자로 변환")
+    void decodeEntities() {
+        assertThat(NetscapeBookmarkParser.decodeEntities("a &lt;b&gt; &#39;c&#x27; &unknown; & d"))
+                .isEqualTo("a <b> 'c' &unknown; & d");
+    }
+
+    @Test
+    @DisplayName("JSON 배열과 NDJSON 모두 객체 단위로 변환")
+    void parseJson_ArrayAndNdjson() throws IOException {
+        JsonBookmarkParser parser = new JsonBookmarkParser(new JsonFactory());
+
+        List<BookmarkCreateRequest> fromArray = parse(parser, """
+                [{"title":"Spring","url":"https://spring.io","tags":["java"],"extra":{"nested":[1,2]}},
+                 {"name":"OpenJDK","href":"https://openjdk.org","tags":"java, jdk","description":"메모"}]
+                """);
+        List<BookmarkCreateRequest> fromNdjson = parse(parser, """
+                {"title":"Spring","url":"https://spring.io","tags":["java"]}
+                {"title":"OpenJDK","url":"https://openjdk.org","tags":"java, jdk","memo":"메모"}
+                """);
+
+        for (List<BookmarkCreateRequest> bookmarks : List.of(fromArray, fromNdjson)) {
+            assertThat(bookmarks).hasSize(2);
+            assertThat(bookmarks.get(0).getTags()).containsExactly("java");
+            assertThat(bookmarks.get(1).getTitle()).isEqualTo("OpenJDK");
+            assertThat(bookmarks.get(1).getUrl()).isEqualTo("https://openjdk.org");
+            assertThat(bookmarks.get(1).getMemo()).isEqualTo("메모");
+            assertThat(bookmarks.get(1).getTags()).containsExactly("java", "jdk");
+        }
+    }
+
+    private static List<BookmarkCreateRequest> parse(BookmarkImportParser parser, String content) throws IOException {
+        List<BookmarkCreateRequest> bookmarks = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), bookmarks::add);
+        return bookmarks;
+    }
+}
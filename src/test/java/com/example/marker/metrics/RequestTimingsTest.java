@@ -0,0 +1,63 @@
+package com.example.marker.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestTimings에 대한 단위 테스트 클래스.
+ */
+class RequestTimingsTest {
+
+    @DisplayName("측정을 시작하지 않으면 현재 RequestTimings가 없다")
+    @Test
+    void current_IsNullOutsideRequest() {
+        assertThat(RequestTimings.current()).isNull();
+
+        RequestTimings timings = RequestTimings.open();
+        assertThat(RequestTimings.current()).isSameAs(timings);
+        timings.close();
+
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    @DisplayName("같은 단계가 중첩되면 가장 바깥쪽 호출만 한 번으로 센다")
+    @Test
+    void nestedStage_CountsOutermostOnly() {
+        RequestTimings timings = RequestTimings.open();
+        try {
+            timings.start(RequestTimings.Stage.SERVICE);
+            timings.start(RequestTimings.Stage.SERVICE);
+            timings.stop(RequestTimings.Stage.SERVICE);
+            timings.stop(RequestTimings.Stage.SERVICE);
+            timings.start(RequestTimings.Stage.SERVICE);
+            timings.stop(RequestTimings.Stage.SERVICE);
+
+            assertThat(timings.getCount(RequestTimings.Stage.SERVICE)).isEqualTo(2);
+            assertThat(timings.getTotalNanos(RequestTimings.Stage.SERVICE)).isPositive();
+        } finally {
+            timings.close();
+        }
+    }
+
+    @DisplayName("끝난 단계만 Server-Timing 헤더에 담고, 끝나지 않은 단계는 close에서 끝난다")
+    @Test
+    void serverTimingHeader_ListsFinishedStages() {
+        RequestTimings timings = RequestTimings.open();
+        timings.start(RequestTimings.Stage.AUTH);
+        timings.stop(RequestTimings.Stage.AUTH);
+        timings.start(RequestTimings.Stage.REPOSITORY);
+        timings.stop(RequestTimings.Stage.REPOSITORY);
+        timings.start(RequestTimings.Stage.REPOSITORY);
+        timings.stop(RequestTimings.Stage.REPOSITORY);
+        timings.start(RequestTimings.Stage.SERIALIZATION);
+
+        assertThat(timings.toServerTimingHeader())
+                .matches("auth;dur=\\d+\\.\\d{3}, repository;dur=\\d+\\.\\d{3};desc=\"2 calls\"");
+
+        timings.close();
+        assertThat(timings.getCount(RequestTimings.Stage.SERIALIZATION)).isEqualTo(1);
+        assertThat(timings.toServerTimingHeader()).contains("serialization;dur=");
+    }
+}
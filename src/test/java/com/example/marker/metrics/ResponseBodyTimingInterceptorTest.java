@@ -0,0 +1,61 @@
+package com.example.marker.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ResponseBodyTimingInterceptor에 대한 단위 테스트 클래스.
+ */
+class ResponseBodyTimingInterceptorTest {
+
+    private final ResponseBodyTimingInterceptor interceptor = new ResponseBodyTimingInterceptor();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @DisplayName("postHandle에서 직렬화 단계가 끝나고, 이후의 afterCompletion은 시간을 더하지 않는다")
+    @Test
+    void postHandle_StopsSerialization() {
+        RequestTimings timings = RequestTimings.open();
+        try {
+            timings.start(RequestTimings.Stage.SERIALIZATION);
+
+            interceptor.postHandle(request, response, new Object(), null);
+            long serializationNanos = timings.getTotalNanos(RequestTimings.Stage.SERIALIZATION);
+            interceptor.afterCompletion(request, response, new Object(), null);
+
+            assertThat(timings.getCount(RequestTimings.Stage.SERIALIZATION)).isEqualTo(1);
+            assertThat(timings.getTotalNanos(RequestTimings.Stage.SERIALIZATION)).isEqualTo(serializationNanos);
+        } finally {
+            timings.close();
+        }
+        assertThat(timings.getCount(RequestTimings.Stage.SERIALIZATION)).isEqualTo(1);
+    }
+
+    @DisplayName("예외 처리기가 본문을 쓴 경우 afterCompletion에서 직렬화 단계가 끝난다")
+    @Test
+    void afterCompletion_StopsSerializationWithoutPostHandle() {
+        RequestTimings timings = RequestTimings.open();
+        try {
+            timings.start(RequestTimings.Stage.SERIALIZATION);
+
+            interceptor.afterCompletion(request, response, new Object(), new IllegalStateException());
+
+            assertThat(timings.getCount(RequestTimings.Stage.SERIALIZATION)).isEqualTo(1);
+        } finally {
+            timings.close();
+        }
+    }
+
+    @DisplayName("측정 중이 아니면 아무것도 하지 않는다")
+    @Test
+    void withoutTimings_DoesNothing() {
+        interceptor.postHandle(request, response, new Object(), null);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(RequestTimings.current()).isNull();
+    }
+}
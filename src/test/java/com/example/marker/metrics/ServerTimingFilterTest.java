@@ -0,0 +1,106 @@
+package com.example.marker.metrics;
+
+import com.example.marker.domain.Bookmark;
+import com.example.marker.domain.User;
+import com.example.marker.repository.BookmarkRepository;
+import com.example.marker.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청 단계별 시간이 Server-Timing 헤더와 메트릭으로 기록되는지 확인하는 통합 테스트 클래스.
+ */
+@SpringBootTest(properties = {
+        "marker.request-timing.enabled=true",
+        "marker.request-timing.server-timing-header=true"
+})
+@AutoConfigureMockMvc
+@Transactional
+class ServerTimingFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String userToken;
+    private Long bookmarkId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc.perform(post("/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"timing_test@example.com\", \"password\":\"password123\"}"));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"timing_test@example.com\", \"password\":\"password123\"}"))
+                .andReturn().getResponse().getContentAsString();
+        userToken = objectMapper.readTree(response).get("token").asText();
+
+        User user = userRepository.findByEmail("timing_test@example.com").orElseThrow();
+        bookmarkId = bookmarkRepository.save(Bookmark.builder()
+                .title("Timing")
+                .url("https://timing.example.com")
+                .user(user)
+                .build()).getId();
+    }
+
+    @DisplayName("응답에 단계별 시간이 Server-Timing 헤더로 추가되고 본문은 그대로 전달된다")
+    @Test
+    void serverTimingHeader_ListsStages() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/bookmarks/" + bookmarkId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Timing"))
+                .andReturn().getResponse();
+
+        assertThat(response.getHeader("Server-Timing"))
+                .contains("auth;dur=", "service;dur=", "cache;dur=", "repository;dur=", "serialization;dur=");
+    }
+
+    @DisplayName("단계별 시간이 marker.request.stage 메트릭으로 기록된다")
+    @Test
+    void stageTimers_AreRecorded() throws Exception {
+        long before = count("serialization");
+
+        mockMvc.perform(get("/bookmarks")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk());
+
+        assertThat(count("serialization")).isEqualTo(before + 1);
+        assertThat(count("auth")).isPositive();
+        assertThat(count("repository")).isPositive();
+    }
+
+    private long count(String stage) {
+        Timer timer = meterRegistry.find("marker.request.stage").tag("stage", stage).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.marker.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StatementCounter에 대한 단위 테스트 클래스.
+ */
+class StatementCounterTest {
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+
+    @DisplayName("범위를 열지 않으면 기록하지 않고, 연 범위에는 SQL 문별 횟수가 기록된다")
+    @Test
+    void scope_CountsStatements() {
+        inspector.inspect("select 1");
+
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            inspector.inspect("select b from bookmark b where b.id=?");
+            inspector.inspect("select t from tag t where t.bookmark_id=?");
+            inspector.inspect("select t from tag t where t.bookmark_id=?");
+
+            assertThat(scope.getCount()).isEqualTo(3);
+            assertThat(scope.getMaxRepeats()).isEqualTo(2);
+            assertThat(scope.getMostRepeatedStatement()).isEqualTo("select t from tag t where t.bookmark_id=?");
+        }
+    }
+
+    @DisplayName("중첩된 범위는 바깥 범위에도 함께 기록되고, 닫은 범위에는 더 이상 기록되지 않는다")
+    @Test
+    void nestedScope_RecordsToOuterScope() {
+        try (StatementCounter.Scope outer = StatementCounter.open()) {
+            inspector.inspect("select 1");
+            StatementCounter.Scope inner = StatementCounter.open();
+            inspector.inspect("select 2");
+            inner.close();
+            inspector.inspect("select 3");
+
+            assertThat(inner.getCount()).isEqualTo(1);
+            assertThat(outer.getCount()).isEqualTo(3);
+        }
+    }
+
+    @DisplayName("inspect는 SQL 문을 바꾸지 않는다")
+    @Test
+    void inspect_ReturnsSameSql() {
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+    }
+}
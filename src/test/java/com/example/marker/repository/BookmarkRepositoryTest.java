@@ -1,12 +1,15 @@
 package com.example.marker.repository;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,8 @@ import com.example.marker.domain.Bookmark;
 import com.example.marker.domain.BookmarkTag;
 import com.example.marker.domain.Tag;
 import com.example.marker.domain.User;
+import com.example.marker.dto.BookmarkField;
+import com.example.marker.dto.BookmarkProjection;
 
 /**
  * BookmarkRepository에 대한 통합 테스트 클래스.
@@ -176,4 +181,35 @@ class BookmarkRepositoryTest {
 
         assertThat(emptyResult.getTotalElements()).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @DisplayName("선택한 필드만 조회 테스트 (findProjectedByUserId)")
+    @Test
+    void findProjectedByUserId_Success() {
+        // given
+        Tag devTag = tagRepository.save(Tag.builder().name("개발").build());
+        Bookmark spring = bookmarkRepository.save(Bookmark.builder().title("Spring Blog").url("https://spring.io/blog").memo("memo").user(user).build());
+        bookmarkRepository.save(Bookmark.builder().title("Naver News").url("https://news.naver.com").user(user).build());
+        bookmarkTagRepository.save(BookmarkTag.builder().bookmark(spring).tag(devTag).build());
+
+        // when
+        Page<BookmarkProjection> withoutTags = bookmarkRepository.findProjectedByUserId(user.getId(), null, null,
+                EnumSet.of(BookmarkField.ID, BookmarkField.TITLE), PageRequest.of(0, 5, Sort.by("title")));
+        Page<BookmarkProjection> byTag = bookmarkRepository.findProjectedByUserId(user.getId(), "개발", null,
+                EnumSet.of(BookmarkField.URL, BookmarkField.TAGS), PageRequest.of(0, 5));
+        Page<BookmarkProjection> byKeyword = bookmarkRepository.findProjectedByUserId(user.getId(), null, "NEWS",
+                EnumSet.of(BookmarkField.TITLE), PageRequest.of(0, 5));
+
+        // then
+        assertThat(withoutTags.getTotalElements()).isEqualTo(2);
+        assertThat(withoutTags.getContent()).extracting("title").containsExactly("Naver News", "Spring Blog");
+        // 선택하지 않은 필드는 조회하지 않음
+        assertThat(withoutTags.getContent()).extracting("url", "memo", "tags").containsOnly(tuple(null, null, null));
+
+        assertThat(byTag.getContent()).hasSize(1);
+        assertThat(byTag.getContent().get(0).getUrl()).isEqualTo("https://spring.io/blog");
+        assertThat(byTag.getContent().get(0).getTags()).containsExactly("개발");
+        assertThat(byTag.getContent().get(0).getTitle()).isNull();
+
+        assertThat(byKeyword.getContent()).extracting("title").containsExactly("Naver News");
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.marker.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtTokenProvider의 단일 파싱 검증과 검증 결과 캐시에 대한 단위 테스트 클래스.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "0c96f7e5d3a2b1c0f9e8d7c6b5a4f3e2d1c0b9a8f7e6d5c4b3a2f1e0d9c8b7a6";
+
+    @Test
+    @DisplayName("토큰 검증 - 한 번의 파싱으로 사용자 ID를 추출하고 결과를 캐시")
+    void verify_CachesVerifiedToken() {
+        // given
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000L, 120_000L, 100);
+        String token = provider.createAccessToken(7L);
+
+        // when
+        Optional<VerifiedToken> first = provider.verify(token);
+        Optional<VerifiedToken> second = provider.verify(token);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().getUserId()).isEqualTo(7L);
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(provider.getUserIdFromToken(token)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("토큰 발급 - Access 토큰과 Refresh 토큰은 용도와 식별자(jti)가 다름")
+    void createTokens_HaveTypeAndId() {
+        // given
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000L, 120_000L, 100);
+
+        // when
+        VerifiedToken access = provider.verify(provider.createAccessToken(7L)).orElseThrow();
+        VerifiedToken refresh = provider.verify(provider.createRefreshToken(7L)).orElseThrow();
+
+        // then
+        assertThat(access.getType()).isEqualTo(TokenType.ACCESS);
+        assertThat(refresh.getType()).isEqualTo(TokenType.REFRESH);
+        assertThat(access.getTokenId()).isNotBlank().isNotEqualTo(refresh.getTokenId());
+        assertThat(refresh.getExpiresAtMillis()).isGreaterThan(access.getExpiresAtMillis());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 변조된 토큰")
+    void verify_Fail_TamperedToken() {
+        // given
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000L, 120_000L, 100);
+        String token = provider.createAccessToken(7L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThat(provider.verify(tampered)).isEmpty();
+        assertThat(provider.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 만료된 토큰")
+    void verify_Fail_ExpiredToken() {
+        // given
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, -1_000L, 120_000L, 100);
+        String token = provider.createAccessToken(7L);
+
+        // when & then
+        assertThat(provider.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검증 캐시 - 최대 크기를 넘지 않음")
+    void verifiedTokenCache_IsBounded() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(4);
+        long now = System.currentTimeMillis();
+
+        // when
+        for (long i = 0; i < 20; i++) {
+            cache.put("digest-" + i, new VerifiedToken(i, "token-" + i, TokenType.ACCESS, now + 60_000L), now);
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(4);
+        assertThat(cache.get("digest-19", now)).isNotNull();
+    }
+}
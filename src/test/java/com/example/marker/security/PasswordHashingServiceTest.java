@@ -0,0 +1,88 @@
+package com.example.marker.security;
+
+import com.example.marker.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PasswordHashingService의 전용 Executor 사용과 포화 시 동작에 대한 단위 테스트 클래스.
+ */
+class PasswordHashingServiceTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0); // 대기열 없이 한 번에 하나의 작업만 허용
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱과 검증 - 전용 Executor에서 수행하고 소요 시간을 기록")
+    void encodeAndMatches_RecordsTimers() {
+        // given
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(4), executor, meterRegistry, 5000);
+
+        // when
+        String encoded = service.encode("password123");
+
+        // then
+        assertThat(service.matches("password123", encoded)).isTrue();
+        assertThat(service.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("marker.password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("marker.password.hashing").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("해싱 실패 - Executor가 포화 상태이면 즉시 TooManyRequestsException 발생")
+    void encode_Fail_WhenSaturated() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BCryptPasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHashingService service = new PasswordHashingService(blockingEncoder, executor, meterRegistry, 5000);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> service.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> service.encode("second"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("marker.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotBlank();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.marker.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimiter(GCRA 토큰 버킷)에 대한 단위 테스트 클래스.
+ * 현재 시각을 직접 전달하여 시간 경과를 흉내냅니다.
+ */
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("버킷 크기만큼 즉시 허용하고, 이후에는 보충 속도에 맞춰 허용")
+    void tryAcquire_AllowsBurstThenRefills() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(100);
+        RateLimiter.Limit limit = RateLimiter.Limit.of(3, 1);
+        long now = 0;
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("user:1", limit, now)).isZero();
+        assertThat(rateLimiter.tryAcquire("user:1", limit, now)).isZero();
+        assertThat(rateLimiter.tryAcquire("user:1", limit, now)).isZero();
+        assertThat(rateLimiter.tryAcquire("user:1", limit, now)).isEqualTo(SECOND); // 1초 뒤에 다시 시도 가능
+
+        assertThat(rateLimiter.tryAcquire("user:1", limit, now + SECOND)).isZero();
+        assertThat(rateLimiter.tryAcquire("user:1", limit, now + SECOND)).isPositive();
+    }
+
+    @Test
+    @DisplayName("키별로 버킷이 분리됨")
+    void tryAcquire_SeparateBucketsPerKey() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(100);
+        RateLimiter.Limit limit = RateLimiter.Limit.of(1, 1);
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("user:1", limit, 0)).isZero();
+        assertThat(rateLimiter.tryAcquire("user:1", limit, 0)).isPositive();
+        assertThat(rateLimiter.tryAcquire("ip:127.0.0.1", limit, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 수는 최대치를 넘지 않음")
+    void tryAcquire_BucketsAreBounded() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(10);
+        RateLimiter.Limit limit = RateLimiter.Limit.of(5, 1);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.tryAcquire("ip:10.0.0." + i, limit, i * SECOND);
+        }
+
+        // then
+        assertThat(rateLimiter.size()).isLessThanOrEqualTo(10);
+    }
+}
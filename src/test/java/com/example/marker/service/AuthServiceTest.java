@@ -1,20 +1,30 @@
 package com.example.marker.service;
 
+import com.example.marker.domain.RevokedToken;
 import com.example.marker.domain.User;
 import com.example.marker.dto.AuthLoginRequest;
 import com.example.marker.dto.AuthLoginResponse;
 import com.example.marker.dto.AuthSignupRequest;
 import com.example.marker.exception.InvalidCredentialsException;
+import com.example.marker.exception.InvalidTokenException;
 import com.example.marker.exception.UserAlreadyExistsException;
+import com.example.marker.repository.RevokedTokenRepository;
 import com.example.marker.repository.UserRepository;
+import com.example.marker.security.JwtTokenProvider;
+import com.example.marker.security.RegisteredEmailFilter;
+import com.example.marker.security.TokenRevocationRegistry;
+import com.example.marker.security.VerifiedToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -31,6 +41,18 @@ class AuthServiceTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
@@ -89,6 +111,38 @@ class AuthServiceTest {
                 .hasMessageContaining("duplicate@example.com");
     }
 
+    @DisplayName("회원가입 - 실패 (필터에 없는 중복 이메일은 unique 제약 조건으로 감지)")
+    @Test
+    void signup_Fail_DuplicateEmailDetectedByConstraint() {
+        // given
+        userRepository.save(User.builder().email("out-of-band@example.com").password("encoded").build());
+        AuthSignupRequest request = new AuthSignupRequest();
+        request.setEmail("out-of-band@example.com");
+        request.setPassword("password123");
+
+        // when & then
+        assertThatThrownBy(() -> authService.signup(request))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessageContaining("out-of-band@example.com");
+    }
+
+    @DisplayName("회원가입 - 가입한 이메일은 가입 이메일 필터에 반영")
+    @Test
+    void signup_RegistersEmailInFilter() {
+        // given
+        AuthSignupRequest request = new AuthSignupRequest();
+        request.setEmail("filtered@example.com");
+        request.setPassword("password123");
+        assertThat(registeredEmailFilter.mightBeRegistered("filtered@example.com")).isFalse();
+
+        // when
+        authService.signup(request);
+
+        // then
+        assertThat(registeredEmailFilter.mightBeRegistered("filtered@example.com")).isTrue();
+        assertThat(registeredEmailFilter.mightBeRegistered("FILTERED@example.com")).isTrue();
+    }
+
     @DisplayName("로그인 - 성공")
     @Test
     void login_Success() {
@@ -111,6 +165,45 @@ class AuthServiceTest {
         assertThat(response.getToken()).isNotEmpty();
     }
 
+    @DisplayName("로그인 - 가입 이메일 필터에 없는 사용자도 DB에서 확인하여 성공")
+    @Test
+    void login_Success_WhenEmailFilterMisses() {
+        // given: 다른 노드에서 가입했지만 가입 전파가 아직 도착하지 않은 상태
+        userRepository.save(User.builder().email("remote@example.com").password(passwordEncoder.encode("password123")).build());
+        assertThat(registeredEmailFilter.mightBeRegistered("remote@example.com")).isFalse();
+
+        AuthLoginRequest loginRequest = new AuthLoginRequest();
+        loginRequest.setEmail("remote@example.com");
+        loginRequest.setPassword("password123");
+
+        // when
+        AuthLoginResponse response = authService.login(loginRequest);
+
+        // then
+        assertThat(response.getToken()).isNotBlank();
+    }
+
+    @DisplayName("로그인 - 약한 작업 계수로 저장된 비밀번호는 다시 해싱")
+    @Test
+    void login_RehashesWeakPassword() {
+        // given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        User user = userRepository.save(User.builder().email("legacy@example.com").password(weakHash).build());
+
+        AuthLoginRequest loginRequest = new AuthLoginRequest();
+        loginRequest.setEmail("legacy@example.com");
+        loginRequest.setPassword("password123");
+
+        // when
+        authService.login(loginRequest);
+
+        // then
+        User updatedUser = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(updatedUser.getPassword()).isNotEqualTo(weakHash);
+        assertThat(passwordEncoder.upgradeEncoding(updatedUser.getPassword())).isFalse();
+        assertThat(passwordEncoder.matches("password123", updatedUser.getPassword())).isTrue();
+    }
+
     @DisplayName("로그인 - 유효하지 않은 이메일")
     @Test
     void login_InvalidEmail_ThrowsException() {
@@ -144,12 +237,84 @@ class AuthServiceTest {
                 .hasMessageContaining("Invalid email or password");
     }
 
-    @DisplayName("로그아웃 - 성공 (서버 측 로직 없음)")
+    @DisplayName("토큰 재발급 - 성공 (사용한 Refresh 토큰은 폐기)")
+    @Test
+    void refresh_Success_RotatesRefreshToken() {
+        // given
+        AuthLoginResponse loginResponse = signupAndLogin("test@example.com", "password123");
+
+        // when
+        AuthLoginResponse refreshed = authService.refresh(loginResponse.getRefreshToken());
+
+        // then
+        assertThat(refreshed.getToken()).isNotBlank();
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(loginResponse.getRefreshToken());
+        assertThatThrownBy(() -> authService.refresh(loginResponse.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("토큰 재발급 - 실패 (다른 요청이 먼저 폐기한 Refresh 토큰 재사용)")
+    @Test
+    void refresh_Fail_WhenAlreadyRevokedByConcurrentRequest() {
+        // given: 다른 노드에서 같은 Refresh 토큰으로 먼저 재발급하여 DB에는 폐기 기록이 있지만, 아직 전파되지 않은 상태
+        AuthLoginResponse loginResponse = signupAndLogin("test@example.com", "password123");
+        VerifiedToken refreshToken = jwtTokenProvider.verify(loginResponse.getRefreshToken()).orElseThrow();
+        revokedTokenRepository.saveAndFlush(RevokedToken.builder()
+                .tokenId(refreshToken.getTokenId())
+                .userId(refreshToken.getUserId())
+                .expiresAt(Instant.ofEpochMilli(refreshToken.getExpiresAtMillis()))
+                .build());
+        assertThat(tokenRevocationRegistry.isRevoked(refreshToken.getTokenId())).isFalse();
+
+        // when & then
+        assertThatThrownBy(() -> authService.refresh(loginResponse.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThat(tokenRevocationRegistry.isRevoked(refreshToken.getTokenId())).isTrue();
+    }
+
+    @DisplayName("토큰 재발급 - 실패 (Access 토큰으로 재발급 시도)")
+    @Test
+    void refresh_Fail_WithAccessToken() {
+        // given
+        AuthLoginResponse loginResponse = signupAndLogin("test@example.com", "password123");
+
+        // when & then
+        assertThatThrownBy(() -> authService.refresh(loginResponse.getToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("로그아웃 - 성공 (Access 토큰과 Refresh 토큰 폐기)")
     @Test
     void logout_Success() {
+        // given
+        AuthLoginResponse loginResponse = signupAndLogin("test@example.com", "password123");
+        String accessTokenId = jwtTokenProvider.verify(loginResponse.getToken()).orElseThrow().getTokenId();
+
+        // when
+        authService.logout(loginResponse.getToken(), loginResponse.getRefreshToken());
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(accessTokenId)).isTrue();
+        assertThatThrownBy(() -> authService.refresh(loginResponse.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("로그아웃 - 토큰 없이 호출해도 예외가 발생하지 않음")
+    @Test
+    void logout_WithoutTokens() {
         // when & then
-        // JWT 기반이므로 서버 측 로그아웃은 특별한 로직이 없음
-        // 예외가 발생하지 않으면 성공
-        authService.logout();
+        authService.logout(null, null);
+    }
+
+    private AuthLoginResponse signupAndLogin(String email, String password) {
+        AuthSignupRequest signupRequest = new AuthSignupRequest();
+        signupRequest.setEmail(email);
+        signupRequest.setPassword(password);
+        authService.signup(signupRequest);
+
+        AuthLoginRequest loginRequest = new AuthLoginRequest();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword(password);
+        return authService.login(loginRequest);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package com.example.marker.service;
+
+import com.example.marker.cache.BookmarkWatermarks;
+import com.example.marker.domain.Bookmark;
+import com.example.marker.domain.User;
+import com.example.marker.repository.BookmarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * BookmarkCacheWarmupService에 대한 단위 테스트 클래스.
+ * @Async는 프록시가 없는 단위 테스트에서는 동기적으로 실행됩니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BookmarkCacheWarmupServiceTest {
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    @Mock
+    private BookmarkWatermarks bookmarkWatermarks;
+
+    @TempDir
+    Path tempDir;
+
+    private CacheManager cacheManager;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("bookmark");
+        user = User.builder().email("warmup@example.com").password("password").build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+    }
+
+    private BookmarkCacheWarmupService createService(String snapshotFile) {
+        return new BookmarkCacheWarmupService(bookmarkRepository, cacheManager, bookmarkWatermarks, true, 20, 10_000, snapshotFile, 100);
+    }
+
+    @DisplayName("로그인 워밍업 - 최근 수정된 북마크가 캐시에 적재된다")
+    @Test
+    void warmUpAfterLogin_LoadsRecentBookmarks() {
+        // given
+        Bookmark bookmark = Bookmark.builder().id(10L).title("Google").url("https://www.google.com").user(user).build();
+        when(bookmarkRepository.findRecentlyUpdatedIdsByUserId(eq(1L), any(Pageable.class))).thenReturn(List.of(10L));
+        when(bookmarkRepository.findAllByIdInWithTags(anyCollection())).thenReturn(List.of(bookmark));
+
+        // when
+        createService("").warmUpAfterLogin(1L);
+
+        // then
+        assertThat(cacheManager.getCache("bookmark").get("1:10").get()).isSameAs(bookmark);
+    }
+
+    @DisplayName("로그인 워밍업 - 조회와 적재 사이에 변경이 커밋되면 적재한 항목을 제거한다")
+    @Test
+    void warmUpAfterLogin_SkipsBookmarksModifiedDuringLoad() {
+        // given: 조회 후 적재 전에 다른 요청이 북마크를 삭제하고 캐시에서 제거함
+        Bookmark bookmark = Bookmark.builder().id(10L).title("Google").url("https://www.google.com").user(user).build();
+        when(bookmarkRepository.findRecentlyUpdatedIdsByUserId(eq(1L), any(Pageable.class))).thenReturn(List.of(10L));
+        when(bookmarkRepository.findAllByIdInWithTags(anyCollection())).thenReturn(List.of(bookmark));
+        when(bookmarkWatermarks.lastModified(anyCollection()))
+                .thenReturn(Map.of(1L, 1_000L))
+                .thenReturn(Map.of(1L, 2_000L));
+
+        // when
+        createService("").warmUpAfterLogin(1L);
+
+        // then
+        assertThat(cacheManager.getCache("bookmark").get("1:10")).isNull();
+    }
+
+    @DisplayName("스냅샷 워밍업 - 저장한 키를 다시 읽어 소유자가 일치하는 북마크만 적재한다")
+    @Test
+    void snapshot_RoundTrip() throws Exception {
+        // given
+        Path snapshot = tempDir.resolve("cache.snapshot");
+        Bookmark own = Bookmark.builder().id(10L).title("Own").url("https://own.com").user(user).build();
+        cacheManager.getCache("bookmark").put("1:10", own);
+        cacheManager.getCache("bookmark").put("1:20", own);
+        BookmarkCacheWarmupService service = createService(snapshot.toString());
+        service.writeSnapshot();
+        assertThat(Files.readAllLines(snapshot)).containsExactlyInAnyOrder("1:10", "1:20");
+
+        // 20번 북마크는 다른 사용자의 것으로 조회됨
+        User another = User.builder().email("another@example.com").password("password").build();
+        ReflectionTestUtils.setField(another, "id", 2L);
+        Bookmark others = Bookmark.builder().id(20L).title("Others").url("https://others.com").user(another).build();
+        when(bookmarkRepository.findAllByIdInWithTags(anyCollection())).thenReturn(List.of(own, others));
+        cacheManager.getCache("bookmark").clear();
+
+        // when
+        service.warmUpFromSnapshot();
+
+        // then
+        assertThat(cacheManager.getCache("bookmark").get("1:10")).isNotNull();
+        assertThat(cacheManager.getCache("bookmark").get("1:20")).isNull();
+    }
+}
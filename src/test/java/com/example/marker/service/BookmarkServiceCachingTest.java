@@ -1,8 +1,10 @@
 package com.example.marker.service;
 
+import com.example.marker.constants.CacheConstants;
 import com.example.marker.domain.Bookmark;
 import com.example.marker.domain.User;
 import com.example.marker.dto.BookmarkUpdateRequest;
+import com.example.marker.exception.BookmarkNotFoundException;
 import com.example.marker.exception.UnauthorizedBookmarkAccessException;
 import com.example.marker.repository.BookmarkRepository;
 import com.example.marker.repository.UserRepository;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -117,7 +120,7 @@ class BookmarkServiceCachingTest {
         verify(bookmarkRepository, times(2)).findByIdWithTags(bookmark.getId());
     }
 
-    @DisplayName("@CacheEvict: 북마크 삭제 시 캐시 제거")
+    @DisplayName("북마크 삭제 시 캐시 제거")
     @Test
     void deleteBookmark_evictsCache() {
         // given
@@ -126,25 +129,23 @@ class BookmarkServiceCachingTest {
                 .url("https://delete.com")
                 .user(user)
                 .build());
+        String key = CacheConstants.bookmarkKey(user.getId(), bookmark.getId());
 
         // 1. 캐시에 데이터 저장
         bookmarkService.getBookmarkById(bookmark.getId());
+        assertThat(cacheManager.getCache(CacheConstants.BOOKMARK_CACHE).get(key)).isNotNull();
 
         // when
         // 2. 북마크 삭제 (DB 삭제 및 캐시 제거)
         bookmarkService.deleteBookmark(bookmark.getId());
 
-        // 3. 삭제 후 다시 조회 시도 (캐시가 없으므로 DB 조회 시도)
-        try {
-            bookmarkService.getBookmarkById(bookmark.getId());
-        } catch (Exception e) {
-            // BookmarkNotFoundException이 발생하는 것이 정상
-        }
-
         // then
-        // 첫 번째 조회(1) + 삭제 시 내부 조회(1) = 총 2번
-        // 삭제 후에는 데이터가 없으므로 조회를 시도하지 않음
-        verify(bookmarkRepository, times(2)).findByIdWithTags(bookmark.getId());
+        // 3. 캐시에서 제거되었으므로 다시 조회하면 DB를 조회하고, 북마크가 없으므로 예외 발생
+        assertThat(cacheManager.getCache(CacheConstants.BOOKMARK_CACHE).get(key)).isNull();
+        assertThatThrownBy(() -> bookmarkService.getBookmarkById(bookmark.getId()))
+                .isInstanceOf(BookmarkNotFoundException.class);
+        // 첫 번째 조회(1) + 삭제 시 내부 조회(1) + 삭제 후 조회(1) = 총 3번
+        verify(bookmarkRepository, times(3)).findByIdWithTags(bookmark.getId());
     }
 
     @DisplayName("동일한 북마크를 다른 사용자가 조회하면 권한 오류 발생")
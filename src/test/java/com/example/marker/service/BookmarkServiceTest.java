@@ -21,11 +21,12 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
@@ -33,10 +34,13 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.example.marker.cache.BookmarkWatermarks;
+import com.example.marker.cache.CacheInvalidationBus;
 import com.example.marker.domain.Bookmark;
 import com.example.marker.domain.Tag;
 import com.example.marker.domain.User;
 import com.example.marker.dto.BookmarkCreateRequest;
+import com.example.marker.dto.BookmarkPage;
 import com.example.marker.dto.BookmarkResponse;
 import com.example.marker.dto.BookmarkUpdateRequest;
 import com.example.marker.exception.BookmarkNotFoundException;
@@ -72,6 +76,15 @@ class BookmarkServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private BookmarkWatermarks bookmarkWatermarks;
+
     private User user;
     private final Long userId = 1L;
 
@@ -107,7 +120,7 @@ class BookmarkServiceTest {
         when(tagRepository.findByName("IT")).thenReturn(Optional.of(Tag.builder().id(1L).name("IT").build()));
         when(tagRepository.save(any(Tag.class))).thenReturn(Tag.builder().name("검색").build());
         // 사용자 조회 Mocking
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
         // repository.save()가 호출될 때의 가짜 동작 정의
         when(bookmarkRepository.save(any(Bookmark.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -124,6 +137,8 @@ class BookmarkServiceTest {
         // repository.save()가 한 번만 호출되었는지 검증
         verify(bookmarkRepository, times(1)).save(any(Bookmark.class));
         verify(tagRepository, times(1)).save(any(Tag.class));
+        // 사용자는 조회하지 않고 참조만 연결
+        verify(userRepository, never()).findById(any());
     }
 
     @DisplayName("북마크 전체 조회 - 성공")
@@ -138,7 +153,7 @@ class BookmarkServiceTest {
         when(bookmarkRepository.findAllByUserId(userId, pageable)).thenReturn(new PageImpl<>(bookmarks, pageable, bookmarks.size()));
 
         // when
-        final Page<BookmarkResponse> responses = bookmarkService.getAllBookmarks(pageable);
+        final BookmarkPage responses = bookmarkService.getAllBookmarks(pageable);
 
         // then
         assertThat(responses.getTotalElements()).isEqualTo(2);
@@ -214,6 +229,8 @@ class BookmarkServiceTest {
         assertThat(existingBookmark.getMemo()).isEqualTo("Updated Memo");
 
         verify(bookmarkRepository, times(1)).findByIdWithTags(1L);
+        // 다른 노드의 캐시 무효화가 요청되었는지 검증
+        verify(cacheInvalidationBus, times(1)).publish("bookmark", userId + ":1");
 
         assertThat(response.getTags()).containsExactly("Updated Tag");
     }
@@ -246,7 +263,7 @@ class BookmarkServiceTest {
         when(bookmarkRepository.findByUserIdAndTagName(userId, tagName, pageable)).thenReturn(new PageImpl<>(List.of(bookmark1, bookmark2), pageable, 2));
 
         // when
-        Page<BookmarkResponse> responses = bookmarkService.getBookmarksByTag(tagName, pageable);
+        BookmarkPage responses = bookmarkService.getBookmarksByTag(tagName, pageable);
 
         // then
         assertThat(responses.getTotalElements()).isEqualTo(2);
@@ -265,7 +282,7 @@ class BookmarkServiceTest {
         when(bookmarkRepository.findByUserIdAndKeyword(userId, keyword, pageable)).thenReturn(new PageImpl<>(List.of(bookmark1, bookmark2), pageable, 2));
 
         // when
-        Page<BookmarkResponse> responses = bookmarkService.searchBookmarks(keyword, pageable);
+        BookmarkPage responses = bookmarkService.searchBookmarks(keyword, pageable);
 
         // then
         assertThat(responses.getTotalElements()).isEqualTo(2);
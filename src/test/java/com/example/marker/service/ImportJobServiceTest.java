@@ -0,0 +1,199 @@
+package com.example.marker.service;
+
+import com.example.marker.domain.ImportJob;
+import com.example.marker.domain.User;
+import com.example.marker.dto.ImportJobResponse;
+import com.example.marker.importer.BookmarkImportFormat;
+import com.example.marker.repository.BookmarkRepository;
+import com.example.marker.repository.ImportJobRepository;
+import com.example.marker.repository.TagRepository;
+import com.example.marker.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImportJobService에 대한 통합 테스트 클래스.
+ * 작업은 별도 스레드에서 각자의 트랜잭션으로 커밋되므로, 테스트 트랜잭션을 사용하지 않고 직접 데이터를 정리합니다.
+ */
+@SpringBootTest
+class ImportJobServiceTest {
+
+    private static final String TAG_NAME = "import-job-test";
+
+    private static final String NDJSON = """
+            {"title":"Spring","url":"https://spring.io","tags":["import-job-test"]}
+            {"title":"Invalid","url":"not-a-url"}
+            {"title":"OpenJDK","url":"https://openjdk.org","tags":["import-job-test"]}
+            """;
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("import_job@example.com")
+                .password("password")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookmarkRepository.deleteAll(bookmarkRepository.findAllByUserId(user.getId(), Pageable.unpaged()).getContent());
+        tagRepository.deleteAll(tagRepository.findAllByNameIn(List.of(TAG_NAME)));
+        importJobRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("등록한 작업은 백그라운드에서 완료되고 업로드 파일은 삭제됨")
+    void submit_CompletesInBackground() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "bookmarks.ndjson", "application/x-ndjson", NDJSON.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ImportJobResponse submitted = importJobService.submitForUser(user.getId(), file, null);
+        ImportJob job = awaitFinished(submitted.getId());
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(3);
+        assertThat(job.getCreated()).isEqualTo(2);
+        assertThat(job.getFailed()).isEqualTo(1);
+        assertThat(Files.exists(Path.of(job.getSpoolPath()))).isFalse();
+        assertThat(bookmarkRepository.findAllByUserId(user.getId(), Pageable.unpaged()).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중단된 작업은 마지막으로 커밋된 청크 다음부터 이어서 처리")
+    void resumeJobs_ContinuesFromCheckpoint() throws Exception {
+        // given: 첫 번째 북마크까지 커밋된 뒤 중단된 작업
+        Path spoolFile = Files.createTempFile("import-", ".upload");
+        Files.writeString(spoolFile, NDJSON, StandardCharsets.UTF_8);
+        ImportJob interrupted = ImportJob.builder()
+                .userId(user.getId())
+                .format(BookmarkImportFormat.JSON)
+                .originalFilename("bookmarks.ndjson")
+                .ownerNodeId(importJobService.getNodeId())
+                .spoolPath(spoolFile.toString())
+                .build();
+        interrupted.start();
+        interrupted.recordChunk(1, 1);
+        Long jobId = importJobRepository.save(interrupted).getId();
+
+        // when
+        importJobService.resumeJobs();
+        ImportJob job = awaitFinished(jobId);
+
+        // then: 남은 두 북마크만 처리됨
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(3);
+        assertThat(job.getCreated()).isEqualTo(2);
+        assertThat(bookmarkRepository.findAllByUserId(user.getId(), Pageable.unpaged()).getContent())
+                .extracting("title")
+                .containsExactly("OpenJDK");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 작업은 이어서 처리하지도, 실패로 기록하지도 않음")
+    void resumeJobs_IgnoresOtherNodesJobs() {
+        // given: 다른 노드에서 실행 중인 작업 (업로드 파일은 그 노드에만 있음)
+        ImportJob running = ImportJob.builder()
+                .userId(user.getId())
+                .format(BookmarkImportFormat.JSON)
+                .originalFilename("bookmarks.ndjson")
+                .ownerNodeId("other-node")
+                .spoolPath("/other-node/spool/import-1.upload")
+                .build();
+        running.start();
+        Long jobId = importJobRepository.save(running).getId();
+
+        // when
+        importJobService.resumeJobs();
+
+        // then
+        ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.RUNNING);
+        assertThat(job.getErrorMessage()).isNull();
+    }
+
+    @Test
+    @DisplayName("heartbeat가 오래 끊긴 다른 노드의 작업은 실패로 기록하고, 이 노드와 살아 있는 노드의 작업은 그대로 둠")
+    void heartbeat_FailsStaleJobsOfGoneNodes() {
+        // given: 사라진 노드의 작업, 살아 있는 다른 노드의 작업, 대기열에서 오래 기다린 이 노드의 작업
+        Long goneJobId = saveRunningJob("gone-node");
+        Long liveJobId = saveRunningJob("other-node");
+        Long ownJobId = saveRunningJob(importJobService.getNodeId());
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(1);
+        jdbcTemplate.update("UPDATE import_job SET updated_at = ? WHERE id IN (?, ?)", longAgo, goneJobId, ownJobId);
+
+        // when
+        int failed = importJobService.heartbeat();
+
+        // then
+        assertThat(failed).isEqualTo(1);
+        ImportJob gone = importJobRepository.findById(goneJobId).orElseThrow();
+        assertThat(gone.getStatus()).isEqualTo(ImportJob.Status.FAILED);
+        assertThat(gone.getErrorMessage()).isNotBlank();
+        assertThat(importJobRepository.findById(liveJobId).orElseThrow().getStatus()).isEqualTo(ImportJob.Status.RUNNING);
+        ImportJob own = importJobRepository.findById(ownJobId).orElseThrow();
+        assertThat(own.getStatus()).isEqualTo(ImportJob.Status.RUNNING);
+        assertThat(own.getUpdatedAt()).isAfter(longAgo);
+    }
+
+    private Long saveRunningJob(String ownerNodeId) {
+        ImportJob job = ImportJob.builder()
+                .userId(user.getId())
+                .format(BookmarkImportFormat.JSON)
+                .originalFilename("bookmarks.ndjson")
+                .ownerNodeId(ownerNodeId)
+                .spoolPath("/" + ownerNodeId + "/spool/import.upload")
+                .build();
+        job.start();
+        return importJobRepository.save(job).getId();
+    }
+
+    private ImportJob awaitFinished(Long jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+            if (!job.getStatus().isActive()) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Import job " + jobId + " did not finish in time.");
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.marker.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BloomFilter에 대한 단위 테스트 클래스.
+ */
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함될 수 있다고 판단 (거짓 음성 없음)")
+    void mightContain_NoFalseNegatives() {
+        // given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        String[] values = new String[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString();
+            filter.put(values[i]);
+        }
+
+        // when & then
+        for (String value : values) {
+            assertThat(filter.mightContain(value)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정값 근처로 유지")
+    void mightContain_FalsePositiveRateIsBounded() {
+        // given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // then (기대값 약 100건, 여유를 두고 검증)
+        assertThat(falsePositives).isLessThan(300);
+    }
+}